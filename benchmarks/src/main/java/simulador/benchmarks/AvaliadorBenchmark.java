@@ -0,0 +1,69 @@
+package simulador.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import simulador.*;
+
+/**
+ * Custo da agregação do Avaliador (uma passada que monta os três histogramas)
+ * de 10^3 a 10^6 processos. O Avaliador memoriza as distribuições na primeira
+ * consulta, então cada chamada cria um Avaliador novo (construtor O(1), só
+ * guarda a lista) para medir a agregação e não a leitura do valor já pronto.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvaliadorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int numProcessos;
+
+    private List<Processo> processos;
+    private long relogio;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        // processos já concluídos com tempos sintéticos, sem executar o escalonador
+        Random rand = new Random(42);
+        processos = new ArrayList<>(numProcessos);
+        relogio = 0;
+        for (int i = 1; i <= numProcessos; i++) {
+            Processo p = new Processo(i, rand.nextInt(10) + 1, (rand.nextInt(5) + 2) * 1000);
+            p.setTempoChegada(0L);
+            int fatia = p.iniciarFatiaSimulada(p.getTempoExecucao(), relogio);
+            relogio += fatia;
+            p.concluirFatiaSimulada(fatia, relogio);
+            processos.add(p);
+        }
+    }
+
+    // Avaliador sem distribuições montadas
+    private Avaliador novoAvaliador() {
+        return new Avaliador(processos, relogio, numProcessos, 0L, relogio * 1_000_000L);
+    }
+
+    @Benchmark
+    public double tempoMedioDeRetorno() { return novoAvaliador().getTempoMedioDeRetorno(); }
+
+    @Benchmark
+    public double tempoMedioDeEspera() { return novoAvaliador().getTempoMedioDeEspera(); }
+
+    @Benchmark
+    public double tempoMedioDeResposta() { return novoAvaliador().getTempoMedioDeResposta(); }
+
+    // As três médias e o p99: o custo é o mesmo da primeira consulta, pois a passada é única
+    @Benchmark
+    public double resumoCompleto() {
+        Avaliador av = novoAvaliador();
+        return av.getTempoMedioDeRetorno() + av.getTempoMedioDeEspera() + av.getTempoMedioDeResposta()
+                + av.getDistribuicaoRetorno().getPercentil(99);
+    }
+}
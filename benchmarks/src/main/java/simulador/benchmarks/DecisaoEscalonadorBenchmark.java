@@ -0,0 +1,86 @@
+package simulador.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import simulador.*;
+
+/**
+ * Custo de decisão de cada algoritmo, sem o trabalho simulado das fatias.
+ *
+ * decisao: um ciclo remover → fatia → aoFimDaFatia → adicionar sobre uma fila
+ * de prontos com tamanhoFila processos (custo por decisão em regime).
+ * escalonamentoSimulado: execução completa em tempo simulado, que inclui a
+ * contabilidade de executarProcesso, eventos e callbacks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisaoEscalonadorBenchmark {
+
+    private static final int QUANTUM = 100;
+
+    @State(Scope.Thread)
+    public static class EstadoFila {
+        @Param({"PRIORIDADE", "ROUND_ROBIN", "PRIORIDADE_PREEMPTIVA", "SJF", "SRTF",
+                "MLFQ", "CFS", "LOTERIA", "STRIDE"})
+        public Escalonador.Algoritmo algoritmo;
+
+        @Param({"1000", "100000"})
+        public int tamanhoFila;
+
+        FilaProntos fila;
+        long instanteMs;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            fila = FilaProntos.para(algoritmo);
+            for (Processo p : Avaliador.gerarCargaDeTrabalho(tamanhoFila, 42)) {
+                p.pronto();
+                fila.adicionar(p);
+            }
+        }
+    }
+
+    @Benchmark
+    public Processo decisao(EstadoFila s) {
+        Processo p = s.fila.remover();
+        int fatia = s.fila.fatia(p, QUANTUM);
+        s.instanteMs += fatia;
+        s.fila.aoFimDaFatia(p, Math.min(fatia, QUANTUM), s.instanteMs);
+        s.fila.adicionar(p);
+        return p;
+    }
+
+    @State(Scope.Thread)
+    public static class EstadoEscalonamento {
+        @Param({"ROUND_ROBIN", "SRTF", "CFS"})
+        public Escalonador.Algoritmo algoritmo;
+
+        @Param({"1000", "10000"})
+        public int numProcessos;
+
+        List<Processo> carga;
+
+        @Setup(Level.Invocation)
+        public void preparar() {
+            carga = new ArrayList<>(Avaliador.gerarCargaDeTrabalho(numProcessos, 42));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 3)
+    public int escalonamentoSimulado(EstadoEscalonamento s) {
+        Escalonador e = new Escalonador(s.algoritmo, QUANTUM * 10, s.carga, Cenario.SILENCIOSO, 5,
+                Escalonador.ModoExecucao.TEMPO_SIMULADO);
+        e.escalonar();
+        return e.getTrocasContexto();
+    }
+}
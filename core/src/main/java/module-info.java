@@ -0,0 +1,10 @@
+/**
+ * Núcleo headless do simulador. Não depende de java.desktop: pode ser embutido
+ * em serviços sem carregar AWT/Swing.
+ */
+module simulador.core {
+    requires transitive java.management; // Processo.executar recebe um ThreadMXBean
+    requires jdk.httpserver;
+
+    exports simulador;
+}
@@ -0,0 +1,358 @@
+package simulador;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class Avaliador {
+    private List<Processo> processosConcluidos;
+    private int numConcluidos;
+    private double tempoTotalSimulacaoMs; // wall time da simulação
+    private int trocasDeContexto;
+    private long tempoOverheadTotalMs;
+    private long cpuTotalNs; // CPU real medida pelo ThreadMXBean
+    private long[] cpuPorNucleoNs; // CPU medida em cada núcleo (worker)
+    private long tempoOciosoTotalMs; // soma do ócio de todos os núcleos
+
+    // Distribuições de retorno, espera e resposta; montadas numa única passada, na primeira consulta
+    private HistogramaLatencia distribuicaoRetorno, distribuicaoEspera, distribuicaoResposta;
+
+    // Como os processos chegam ao sistema na carga gerada
+    public enum ModeloChegada { SIMULTANEA, POISSON, RAJADAS }
+
+    public Avaliador(List<Processo> processosConcluidos,
+                     double tempoTotalSimulacaoMs,
+                     int trocasDeContexto,
+                     long tempoOverheadTotalMs,
+                     long cpuTotalNs) {
+        this(processosConcluidos, tempoTotalSimulacaoMs, trocasDeContexto,
+                tempoOverheadTotalMs, new long[] { cpuTotalNs }, 0L);
+    }
+
+    // Construtor multi-núcleo: a CPU total é a soma dos núcleos
+    public Avaliador(List<Processo> processosConcluidos,
+                     double tempoTotalSimulacaoMs,
+                     int trocasDeContexto,
+                     long tempoOverheadTotalMs,
+                     long[] cpuPorNucleoNs,
+                     long tempoOciosoTotalMs) {
+        this.tempoOciosoTotalMs = Math.max(0L, tempoOciosoTotalMs);
+        this.processosConcluidos = processosConcluidos;
+        this.numConcluidos = processosConcluidos.size();
+        this.tempoTotalSimulacaoMs = tempoTotalSimulacaoMs;
+        this.trocasDeContexto = trocasDeContexto;
+        this.tempoOverheadTotalMs = tempoOverheadTotalMs;
+        this.cpuPorNucleoNs = cpuPorNucleoNs.length == 0 ? new long[1] : cpuPorNucleoNs.clone();
+        this.cpuTotalNs = java.util.Arrays.stream(this.cpuPorNucleoNs).sum();
+    }
+
+    // Avalia diretamente o resultado de um escalonador já executado (só os concluídos, se interrompido)
+    public Avaliador(Escalonador escalonador) {
+        this(escalonador.isInterrompido()
+                        ? escalonador.getProcessos().stream()
+                                .filter(p -> p.getEstado() == Processo.Estado.FINALIZADO)
+                                .collect(Collectors.toList())
+                        : escalonador.getProcessos(),
+                escalonador.getTempoTotal(),
+                escalonador.getTrocasContexto(),
+                escalonador.getTempoOverheadTotalMs(),
+                escalonador.getCpuPorNucleoNs(),
+                escalonador.getTempoOciosoTotalMs());
+    }
+
+    // Avalia uma execução do SimuladorCompacto: as distribuições já vêm prontas do simulador
+    public Avaliador(SimuladorCompacto simulador) {
+        this(List.of(), simulador.getTempoTotal(), simulador.getTrocasContexto(),
+                simulador.getTempoOverheadTotalMs(), simulador.getCpuPorNucleoNs(),
+                simulador.getTempoOciosoTotalMs());
+        this.numConcluidos = simulador.getConcluidos();
+        this.distribuicaoRetorno = simulador.getDistribuicaoRetorno();
+        this.distribuicaoEspera = simulador.getDistribuicaoEspera();
+        this.distribuicaoResposta = simulador.getDistribuicaoResposta();
+    }
+
+    // Recebe cada processo sorteado por gerarCargaDeTrabalho (lista de Processo ou TabelaProcessos)
+    @FunctionalInterface
+    interface DestinoCarga {
+        void adicionar(int id, int prioridade, int burstMs, long chegadaMs, double cpuIntensidade);
+    }
+
+    // --- MÉTODO ATUALIZADO ---
+    /**
+     * Função do método: Gera uma lista de processos simulados com parâmetros aleatórios.
+     * Entrada: totalProcessos, seed
+     * Saída: Lista de processos
+     */
+    public static List<Processo> gerarCargaDeTrabalho(int totalProcessos, int seed) {
+        return gerarCargaDeTrabalho(totalProcessos, seed, ModeloChegada.SIMULTANEA, 1.0);
+    }
+
+    /**
+     * Função do método: Gera uma carga de processos com instantes de chegada espaçados.
+     * POISSON usa intervalos exponenciais; RAJADAS agrupa chegadas quase simultâneas
+     * separadas por pausas longas, mantendo a mesma taxa média.
+     * Entrada: totalProcessos, seed, modelo de chegada, taxa média (processos/s; finita e > 0,
+     * exceto em SIMULTANEA, que a ignora)
+     * Saída: Lista de processos em ordem de chegada
+     */
+    public static List<Processo> gerarCargaDeTrabalho(int totalProcessos, int seed,
+                                                      ModeloChegada modelo, double taxaPorSegundo) {
+        List<Processo> processos = new java.util.ArrayList<>(Math.max(0, totalProcessos));
+        gerarCargaDeTrabalho(totalProcessos, seed, modelo, taxaPorSegundo, (id, prioridade, burstMs, chegadaMs, cpu) -> {
+            Processo p = new Processo(id, prioridade, burstMs, chegadaMs);
+            p.setCpuIntensidade(cpu);
+            processos.add(p);
+        });
+        return processos;
+    }
+
+    /**
+     * Função do método: Sorteia a carga legada e entrega cada processo ao destino. É o único
+     * gerador dessa carga: a lista do Escalonador e a tabela do SimuladorCompacto saem dos
+     * mesmos sorteios, na mesma ordem.
+     * Entrada: totalProcessos, seed, modelo de chegada, taxa média (processos/s), destino
+     * Saída: Nenhuma (processos entregues em ordem de chegada)
+     */
+    static void gerarCargaDeTrabalho(int totalProcessos, int seed, ModeloChegada modelo, double taxaPorSegundo,
+                                     DestinoCarga destino) {
+        Random rand = new Random(seed); // Usa a semente (seed) fornecida
+        double mediaIntervaloMs = mediaIntervaloMs(modelo, taxaPorSegundo);
+        double chegadaMs = 0.0;
+        for (int i = 1; i <= totalProcessos; i++) {
+            int prioridade = rand.nextInt(10) + 1;
+            int tempoExec = (rand.nextInt(5) + 2) * 1000; // 2–6s
+            // espalha intensidades de CPU: 30% a 90%
+            double intensidade = 0.3 + rand.nextDouble() * 0.6;
+
+            if (i > 1) {
+                switch (modelo) {
+                    case SIMULTANEA -> { }
+                    case POISSON -> chegadaMs += exponencial(rand, mediaIntervaloMs);
+                    case RAJADAS -> {
+                        // rajadas de ~5 processos: 80% de chance de continuar a rajada
+                        if (rand.nextDouble() < 0.8) chegadaMs += rand.nextInt(10);
+                        else chegadaMs += exponencial(rand, mediaIntervaloMs * 5);
+                    }
+                }
+            }
+            destino.adicionar(i, prioridade, tempoExec, Math.round(chegadaMs), intensidade);
+        }
+    }
+
+    /**
+     * Função do método: Converte a taxa de chegada no intervalo médio, rejeitando taxas inválidas.
+     * Entrada: modelo de chegada, taxa média (processos/s)
+     * Saída: Intervalo médio entre chegadas (ms)
+     */
+    static double mediaIntervaloMs(ModeloChegada modelo, double taxaPorSegundo) {
+        if (modelo == ModeloChegada.SIMULTANEA) return 0.0;
+        if (!Double.isFinite(taxaPorSegundo) || taxaPorSegundo <= 0) {
+            throw new IllegalArgumentException("Taxa de chegada deve ser finita e > 0: " + taxaPorSegundo);
+        }
+        return 1000.0 / taxaPorSegundo;
+    }
+
+    private static double exponencial(Random rand, double media) {
+        return -Math.log(1.0 - rand.nextDouble()) * media;
+    }
+
+    // Retorna a soma do "burst" concluído (útil p/ timeline, não p/ CPU real)
+    private long getTempoTotalBurstMs() {
+        return processosConcluidos.stream().mapToLong(Processo::getTempoExecutado).sum();
+    }
+
+    /**
+     * Função do método: Calcula o throughput da simulação.
+     * Entrada: Nenhuma
+     * Saída: Valor de throughput
+     */
+    public double getThroughput() {
+        if (tempoTotalSimulacaoMs <= 0) return 0;
+        return numConcluidos / (tempoTotalSimulacaoMs / 1000.0);
+    }
+
+    /**
+     * Função do método: Calcula o tempo médio de retorno dos processos.
+     * Entrada: Nenhuma
+     * Saída: Tempo médio de retorno
+     */
+    public double getTempoMedioDeRetorno() {
+        return getDistribuicaoRetorno().getMedia();
+    }
+
+    /**
+     * Função do método: Calcula o tempo médio de espera dos processos.
+     * Entrada: Nenhuma
+     * Saída: Tempo médio de espera
+     */
+    public double getTempoMedioDeEspera() {
+        return getDistribuicaoEspera().getMedia();
+    }
+
+    /**
+     * Função do método: Calcula o tempo médio de resposta dos processos.
+     * Entrada: Nenhuma
+     * Saída: Tempo médio de resposta
+     */
+    public double getTempoMedioDeResposta() {
+        return getDistribuicaoResposta().getMedia();
+    }
+
+    /**
+     * Função do método: Retorna a distribuição dos tempos de retorno (percentis, máximo, desvio).
+     * Entrada: Nenhuma
+     * Saída: Histograma dos tempos de retorno (ms)
+     */
+    public HistogramaLatencia getDistribuicaoRetorno() {
+        montarDistribuicoes();
+        return distribuicaoRetorno;
+    }
+
+    /**
+     * Função do método: Retorna a distribuição dos tempos de espera (percentis, máximo, desvio).
+     * Entrada: Nenhuma
+     * Saída: Histograma dos tempos de espera (ms)
+     */
+    public HistogramaLatencia getDistribuicaoEspera() {
+        montarDistribuicoes();
+        return distribuicaoEspera;
+    }
+
+    /**
+     * Função do método: Retorna a distribuição dos tempos de resposta (percentis, máximo, desvio).
+     * Entrada: Nenhuma
+     * Saída: Histograma dos tempos de resposta (ms)
+     */
+    public HistogramaLatencia getDistribuicaoResposta() {
+        montarDistribuicoes();
+        return distribuicaoResposta;
+    }
+
+    private void montarDistribuicoes() {
+        if (distribuicaoRetorno != null) return;
+        HistogramaLatencia retorno = new HistogramaLatencia();
+        HistogramaLatencia espera = new HistogramaLatencia();
+        HistogramaLatencia resposta = new HistogramaLatencia();
+        for (Processo p : processosConcluidos) {
+            retorno.registrar(p.getTempoDeRetorno());
+            espera.registrar(p.getTempoDeEspera());
+            resposta.registrar(p.getTempoDeResposta());
+        }
+        distribuicaoEspera = espera;
+        distribuicaoResposta = resposta;
+        distribuicaoRetorno = retorno;
+    }
+
+    /**
+     * Utilização “realista”: CPU_time / (wall_time * núcleos).
+     * cpuTotalNs vem do ThreadMXBean; wall time = tempoTotalSimulacaoMs.
+     */
+    /**
+     * Função do método: Calcula a utilização agregada das CPUs durante a simulação.
+     * Entrada: Nenhuma
+     * Saída: Percentual de utilização da CPU
+     */
+    public double getUtilizacaoCPU() {
+        return utilizacao(cpuTotalNs, cpuPorNucleoNs.length);
+    }
+
+    /**
+     * Função do método: Calcula a utilização de um núcleo específico.
+     * Entrada: índice do núcleo
+     * Saída: Percentual de utilização do núcleo
+     */
+    public double getUtilizacaoNucleo(int nucleo) {
+        return utilizacao(cpuPorNucleoNs[nucleo], 1);
+    }
+
+    private double utilizacao(long cpuNs, int nucleos) {
+        if (tempoTotalSimulacaoMs <= 0) return 0.0;
+        double cpuMs = cpuNs / 1_000_000.0;
+        double utiliz = (cpuMs / (tempoTotalSimulacaoMs * nucleos)) * 100.0;
+        // limita para evitar ruídos de alta resolução
+        return Math.max(0.0, Math.min(utiliz, 100.0));
+    }
+
+    /**
+     * Função do método: Calcula a utilização descontando o tempo em que os núcleos
+     * ficaram ociosos aguardando chegadas.
+     * Entrada: Nenhuma
+     * Saída: Percentual de utilização durante o tempo ocupado
+     */
+    public double getUtilizacaoSemOcio() {
+        double ocupadoMs = getCapacidadeMs() - tempoOciosoTotalMs;
+        if (ocupadoMs <= 0) return 0.0;
+        double utiliz = (cpuTotalNs / 1_000_000.0) / ocupadoMs * 100.0;
+        return Math.max(0.0, Math.min(utiliz, 100.0));
+    }
+
+    /**
+     * Função do método: Calcula a fração da capacidade total em que os núcleos ficaram ociosos.
+     * Entrada: Nenhuma
+     * Saída: Percentual de ócio
+     */
+    public double getPercentualOcioso() {
+        double capacidadeMs = getCapacidadeMs();
+        if (capacidadeMs <= 0) return 0.0;
+        return Math.max(0.0, Math.min(tempoOciosoTotalMs / capacidadeMs * 100.0, 100.0));
+    }
+
+    /**
+     * Função do método: Calcula o throughput considerando apenas o tempo em que havia trabalho.
+     * Entrada: Nenhuma
+     * Saída: Processos concluídos por segundo ocupado
+     */
+    public double getThroughputSemOcio() {
+        double ocupadoMs = (getCapacidadeMs() - tempoOciosoTotalMs) / cpuPorNucleoNs.length;
+        if (ocupadoMs <= 0) return 0;
+        return numConcluidos / (ocupadoMs / 1000.0);
+    }
+
+    // capacidade total = tempo de simulação × núcleos
+    private double getCapacidadeMs() {
+        return tempoTotalSimulacaoMs * cpuPorNucleoNs.length;
+    }
+
+    /**
+     * Função do método: Retorna o tempo ocioso somado de todos os núcleos.
+     * Entrada: Nenhuma
+     * Saída: Tempo ocioso em ms
+     */
+    public long getTempoOciosoTotalMs() { return tempoOciosoTotalMs; }
+
+    /**
+     * Função do método: Retorna o número de núcleos avaliados.
+     * Entrada: Nenhuma
+     * Saída: Número de núcleos
+     */
+    public int getNumCpus() { return cpuPorNucleoNs.length; }
+
+    /**
+     * Função do método: Retorna o número de trocas de contexto.
+     * Entrada: Nenhuma
+     * Saída: Número de trocas de contexto
+     */
+    public int getTrocasDeContexto() { return trocasDeContexto; }
+
+    /**
+     * Função do método: Retorna o tempo total de overhead de trocas de contexto.
+     * Entrada: Nenhuma
+     * Saída: Tempo de overhead em ms
+     */
+    public long getTempoOverheadTotalMs() { return tempoOverheadTotalMs; }
+
+    /**
+     * Função do método: Retorna o tempo total da simulação avaliada.
+     * Entrada: Nenhuma
+     * Saída: Tempo total em ms
+     */
+    public double getTempoTotalSimulacaoMs() { return tempoTotalSimulacaoMs; }
+
+    // Diagnósticos adicionais (se quiser exibir)
+    /**
+     * Função do método: Retorna o tempo total de CPU real gasto.
+     * Entrada: Nenhuma
+     * Saída: Tempo de CPU em nanossegundos
+     */
+    public long getCpuTotalNs() { return cpuTotalNs; }
+}
\ No newline at end of file
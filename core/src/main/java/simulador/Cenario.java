@@ -0,0 +1,144 @@
+package simulador;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Um ponto de uma varredura de parâmetros: algoritmo, carga e configuração da
+ * máquina. Executar um cenário gera a própria carga (a partir da semente) e um
+ * Escalonador novo, então cenários diferentes não compartilham estado.
+ * Com um trace, a carga vem do arquivo (numProcessos limita os registros
+ * lidos, 0 = todos) e semente, modelo e taxa de chegada não se aplicam.
+ * Com um ModeloCarga, a carga é sorteada das distribuições dele com a semente
+ * do cenário, e modelo e taxa de chegada também não se aplicam.
+ * parametrosFila ajusta as filas com parâmetros próprios (ex.: níveis da MLFQ).
+ */
+public record Cenario(Escalonador.Algoritmo algoritmo,
+                      int quantum,
+                      int numProcessos,
+                      int seed,
+                      int overheadMs,
+                      int numCpus,
+                      Escalonador.ModoExecucao modo,
+                      Avaliador.ModeloChegada modeloChegada,
+                      double taxaChegada,
+                      Path trace,
+                      ModeloCarga carga,
+                      ParametrosFila parametrosFila) {
+
+    public Cenario {
+        if (trace != null && carga != null) throw new IllegalArgumentException("Use trace ou carga, não ambos");
+        if (parametrosFila == null) parametrosFila = ParametrosFila.PADRAO;
+    }
+
+    // Cenário com carga gerada (sem trace)
+    public Cenario(Escalonador.Algoritmo algoritmo, int quantum, int numProcessos, int seed, int overheadMs,
+                   int numCpus, Escalonador.ModoExecucao modo, Avaliador.ModeloChegada modeloChegada,
+                   double taxaChegada) {
+        this(algoritmo, quantum, numProcessos, seed, overheadMs, numCpus, modo, modeloChegada, taxaChegada, null, null, null);
+    }
+
+    // Cenário com carga de um trace
+    public Cenario(Escalonador.Algoritmo algoritmo, int quantum, int numProcessos, int seed, int overheadMs,
+                   int numCpus, Escalonador.ModoExecucao modo, Avaliador.ModeloChegada modeloChegada,
+                   double taxaChegada, Path trace) {
+        this(algoritmo, quantum, numProcessos, seed, overheadMs, numCpus, modo, modeloChegada, taxaChegada, trace, null, null);
+    }
+
+    // Cenário com trace ou carga configurada e filas no padrão
+    public Cenario(Escalonador.Algoritmo algoritmo, int quantum, int numProcessos, int seed, int overheadMs,
+                   int numCpus, Escalonador.ModoExecucao modo, Avaliador.ModeloChegada modeloChegada,
+                   double taxaChegada, Path trace, ModeloCarga carga) {
+        this(algoritmo, quantum, numProcessos, seed, overheadMs, numCpus, modo, modeloChegada, taxaChegada, trace, carga,
+                null);
+    }
+
+    // Callback que descarta tudo: execuções em lote não têm interface
+    public static final Escalonador.EscalonadorCallback SILENCIOSO = new Escalonador.EscalonadorCallback() {
+        @Override public void onLog(String message) { }
+        @Override public void onProcessoIniciado(Processo p) { }
+        @Override public void onProcessoFinalizado(Processo p) { }
+        @Override public void onConcluido() { }
+    };
+
+    /**
+     * Função do método: Gera a carga do cenário, executa o escalonador e avalia o resultado.
+     * Entrada: Nenhuma
+     * Saída: Resultado do cenário
+     */
+    public ResultadoCenario executar() {
+        List<Processo> carga;
+        try {
+            carga = trace != null ? LeitorTrace.lerProcessos(trace, numProcessos)
+                    : this.carga != null ? this.carga.gerarLista(numProcessos, seed)
+                    : Avaliador.gerarCargaDeTrabalho(numProcessos, seed, modeloChegada, taxaChegada);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler o trace " + trace, e);
+        }
+        Escalonador escalonador = new Escalonador(algoritmo, quantum, carga, SILENCIOSO, overheadMs, modo, numCpus);
+        escalonador.setGravarLinhaDoTempo(false); // varreduras só usam as métricas agregadas
+        escalonador.setParametrosFila(parametrosFila.comSementeLoteria(seed));
+        if (MonitorEscalonador.isAtivo()) escalonador.setMonitor(MonitorEscalonador.para(algoritmo));
+        escalonador.escalonar();
+        return new ResultadoCenario(this, new Avaliador(escalonador));
+    }
+
+    /**
+     * Função do método: Executa o cenário no SimuladorCompacto (tabela de vetores primitivos),
+     * para cargas grandes demais para um objeto por processo. Só em tempo simulado.
+     * Um trace é lido em fluxo, sem ser carregado por inteiro, e um ModeloCarga é sorteado
+     * em fluxo, processo a processo.
+     * Entrada: Nenhuma
+     * Saída: Resultado do cenário
+     */
+    public ResultadoCenario executarCompacto() {
+        if (modo != Escalonador.ModoExecucao.TEMPO_SIMULADO) {
+            throw new IllegalArgumentException("O motor compacto só executa em tempo simulado");
+        }
+        if (trace != null) {
+            try (LeitorTrace leitor = LeitorTrace.abrir(trace, numProcessos)) {
+                SimuladorCompacto simulador = new SimuladorCompacto(algoritmo, quantum, leitor, overheadMs, numCpus);
+                simulador.escalonar();
+                return new ResultadoCenario(this, new Avaliador(simulador));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao ler o trace " + trace, e);
+            }
+        }
+        if (carga != null) {
+            SimuladorCompacto simulador = new SimuladorCompacto(algoritmo, quantum, carga.fonte(numProcessos, seed),
+                    overheadMs, numCpus);
+            simulador.escalonar();
+            return new ResultadoCenario(this, new Avaliador(simulador));
+        }
+        TabelaProcessos tabela = TabelaProcessos.gerar(numProcessos, seed, modeloChegada, taxaChegada);
+        SimuladorCompacto simulador = new SimuladorCompacto(algoritmo, quantum, tabela, overheadMs, numCpus);
+        simulador.escalonar();
+        return new ResultadoCenario(this, new Avaliador(simulador));
+    }
+
+    /**
+     * Função do método: Monta o nome do cenário no mesmo formato usado pela interface.
+     * Entrada: Nenhuma
+     * Saída: Nome do cenário
+     */
+    public String nome() {
+        String ajustes = parametrosFila.descricao(algoritmo);
+        String fim = (ajustes.isEmpty() ? "" : ", " + ajustes)
+                + (modo == Escalonador.ModoExecucao.TEMPO_SIMULADO ? ", SIM" : "");
+        if (trace != null) {
+            return String.format("%s (Q=%dms, trace %s, CPUs=%d%s)", algoritmo, quantum, trace.getFileName(), numCpus,
+                    fim);
+        }
+        if (carga != null) {
+            return String.format("%s (Q=%dms, P=%d, S=%d, CPUs=%d, carga %s%s)", algoritmo, quantum, numProcessos,
+                    seed, numCpus, carga.descricao(), fim);
+        }
+        return String.format("%s (Q=%dms, P=%d, S=%d, CPUs=%d%s%s)",
+                algoritmo, quantum, numProcessos, seed, numCpus,
+                modeloChegada == Avaliador.ModeloChegada.SIMULTANEA ? ""
+                        : String.format(", %s %.1f/s", modeloChegada, taxaChegada),
+                fim);
+    }
+}
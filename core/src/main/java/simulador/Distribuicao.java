@@ -0,0 +1,150 @@
+package simulador;
+
+import java.util.Locale;
+
+/**
+ * Distribuição de uma variável da carga (burst, intervalo entre chegadas,
+ * intensidade de CPU), definida pela função quantil: amostrar é aplicar
+ * quantil() a um uniforme em [0, 1). Isso permite correlacionar duas
+ * variáveis pelo mesmo sorteio (ver ModeloCarga) e torna cada amostra uma
+ * função só do gerador aleatório, sem estado.
+ *
+ * O texto de descricao() é o mesmo aceito por ler(), ex.: "pareto:1000:1.5:120000".
+ * Os parâmetros são validados na construção, logo também ao ler a carga de --carga.
+ */
+public interface Distribuicao {
+
+    /**
+     * Função do método: Inversa da função de distribuição acumulada.
+     * Entrada: u em [0, 1)
+     * Saída: Valor x com P(X <= x) = u
+     */
+    double quantil(double u);
+
+    String descricao();
+
+    // Sempre o mesmo valor
+    record Constante(double valor) implements Distribuicao {
+        public Constante {
+            if (!Double.isFinite(valor)) throw new IllegalArgumentException("Constante deve ser finita: " + valor);
+        }
+
+        public double quantil(double u) { return valor; }
+
+        public String descricao() { return "const:" + num(valor); }
+    }
+
+    // Uniforme contínua em [minimo, maximo)
+    record Uniforme(double minimo, double maximo) implements Distribuicao {
+        public Uniforme {
+            if (!Double.isFinite(minimo) || !Double.isFinite(maximo) || minimo > maximo) {
+                throw new IllegalArgumentException("Uniforme exige limites finitos com mínimo <= máximo: "
+                        + minimo + ", " + maximo);
+            }
+        }
+
+        public double quantil(double u) { return minimo + u * (maximo - minimo); }
+
+        public String descricao() { return "uniforme:" + num(minimo) + ":" + num(maximo); }
+    }
+
+    // Exponencial com a média informada (intervalos de um processo de Poisson)
+    record Exponencial(double media) implements Distribuicao {
+        public Exponencial {
+            if (!(media > 0) || !Double.isFinite(media)) {
+                throw new IllegalArgumentException("Exponencial exige média finita e positiva: " + media);
+            }
+        }
+
+        public double quantil(double u) { return -Math.log(1.0 - u) * media; }
+
+        public String descricao() { return "exp:" + num(media); }
+    }
+
+    /**
+     * Pareto (cauda pesada): P(X > x) = (minimo / x)^alfa, truncada em maximo.
+     * Com alfa <= 2 a variância é infinita: a maioria dos bursts é curta e uns
+     * poucos, muito longos, concentram boa parte do trabalho.
+     */
+    record Pareto(double minimo, double alfa, double maximo) implements Distribuicao {
+        public Pareto {
+            if (!(minimo > 0) || !(alfa > 0) || !Double.isFinite(minimo) || !Double.isFinite(alfa)) {
+                throw new IllegalArgumentException("Pareto exige mínimo e alfa finitos e positivos: " + minimo + ", " + alfa);
+            }
+            if (!(maximo >= minimo)) {
+                throw new IllegalArgumentException("Pareto exige máximo >= mínimo: " + maximo + " < " + minimo);
+            }
+        }
+
+        public double quantil(double u) { return Math.min(maximo, minimo / Math.pow(1.0 - u, 1.0 / alfa)); }
+
+        public String descricao() {
+            return "pareto:" + num(minimo) + ":" + num(alfa)
+                    + (maximo == Double.POSITIVE_INFINITY ? "" : ":" + num(maximo));
+        }
+    }
+
+    // Mistura: com probabilidade p vale a, senão b (ex.: bursts curtos e longos)
+    record Mistura(double p, Distribuicao a, Distribuicao b) implements Distribuicao {
+        public Mistura {
+            if (!(p >= 0 && p <= 1)) throw new IllegalArgumentException("Probabilidade da mistura fora de [0, 1]: " + p);
+        }
+
+        // O mesmo u escolhe o componente e, reescalado, o valor dentro dele
+        public double quantil(double u) {
+            return u < p ? a.quantil(u / p) : b.quantil((u - p) / (1.0 - p));
+        }
+
+        public String descricao() {
+            if (a instanceof Exponencial ea && b instanceof Exponencial eb) {
+                return "bimodal:" + num(p) + ":" + num(ea.media()) + ":" + num(eb.media());
+            }
+            return "mistura(" + num(p) + "," + a.descricao() + "," + b.descricao() + ")";
+        }
+    }
+
+    /**
+     * Função do método: Lê uma distribuição no formato da linha de comando:
+     * const:V | uniforme:MIN:MAX | exp:MEDIA | pareto:MIN:ALFA[:MAX] | bimodal:P:MEDIA_A:MEDIA_B
+     * (bimodal = mistura de duas exponenciais, a primeira com probabilidade P).
+     * Entrada: texto
+     * Saída: Distribuição
+     */
+    static Distribuicao ler(String texto) {
+        String[] p = texto.trim().split(":");
+        try {
+            switch (p[0].toLowerCase(Locale.ROOT)) {
+                case "const":
+                    if (p.length == 2) return new Constante(Double.parseDouble(p[1]));
+                    break;
+                case "uniforme":
+                    if (p.length == 3) return new Uniforme(Double.parseDouble(p[1]), Double.parseDouble(p[2]));
+                    break;
+                case "exp":
+                    if (p.length == 2) return new Exponencial(Double.parseDouble(p[1]));
+                    break;
+                case "pareto":
+                    if (p.length == 3 || p.length == 4) {
+                        return new Pareto(Double.parseDouble(p[1]), Double.parseDouble(p[2]),
+                                p.length == 4 ? Double.parseDouble(p[3]) : Double.POSITIVE_INFINITY);
+                    }
+                    break;
+                case "bimodal":
+                    if (p.length == 4) {
+                        return new Mistura(Double.parseDouble(p[1]), new Exponencial(Double.parseDouble(p[2])),
+                                new Exponencial(Double.parseDouble(p[3])));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Distribuição desconhecida: " + texto);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido na distribuição: " + texto);
+        }
+        throw new IllegalArgumentException("Parâmetros inválidos para a distribuição: " + texto);
+    }
+
+    private static String num(double v) {
+        return v == Math.rint(v) && Math.abs(v) < 1e15 ? Long.toString((long) v) : Double.toString(v);
+    }
+}
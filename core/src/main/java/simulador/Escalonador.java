@@ -0,0 +1,670 @@
+package simulador;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class Escalonador {
+    private List<Processo> listaProcessos;
+    private int quantum;
+    private Algoritmo algoritmoSelecionado;
+    private long inicioExecucao, fimExecucao;
+
+    // Custos e métricas adicionais
+    private final int overheadTrocaMs;      // custo por troca de contexto (em ms)
+    private long tempoOciosoTotalMs = 0;    // soma do tempo em que cada núcleo ficou sem processo
+
+    // Medição de CPU real de cada núcleo (cada worker mede o próprio thread)
+    private final ThreadMXBean medidor;
+
+    // Núcleos (CPUs) simulados: fila de prontos compartilhada entre eles.
+    // Contadores por núcleo têm um único escritor (o próprio núcleo) e dispensam a trava;
+    // os totais são somados na leitura, depois de escalonar().
+    private final int numCpus;
+    private final long[] cpuPorNucleoNs;
+    private final int[] trocasPorNucleo;
+    private final long[] overheadPorNucleoMs;
+    private final Object trava = new Object(); // protege fila de prontos, chegadas e ócio no modo multi-núcleo
+    private int nucleosOcupados;
+
+    // Pedido de parada antecipada (ex.: métricas já convergiram)
+    private volatile boolean interrompido;
+
+    // Contadores publicados via JMX/Prometheus; null = sem medição extra
+    private MonitorEscalonador monitor;
+
+    // Processos ainda não admitidos, em ordem de chegada
+    private List<Processo> pendentes;
+    private int proximaChegada;
+
+    public enum Algoritmo { PRIORIDADE, ROUND_ROBIN, PRIORIDADE_PREEMPTIVA, SJF, SRTF, MLFQ, CFS, LOTERIA, STRIDE }
+
+    // TEMPO_REAL executa as fatias de verdade (busy loop + sleep);
+    // TEMPO_SIMULADO avança um relógio virtual sobre uma fila de eventos.
+    public enum ModoExecucao { TEMPO_REAL, TEMPO_SIMULADO }
+    private final ModoExecucao modo;
+
+    public interface EscalonadorCallback {
+        void onLog(String message);
+        void onProcessoIniciado(Processo p);
+        void onProcessoFinalizado(Processo p);
+        void onConcluido();
+
+        // Cada evento gravado no registro; os campos (e o texto) vêm de registro.copiar(sequencia, evento)
+        default void onEvento(RegistroEventos registro, long sequencia) { }
+    }
+
+    private EscalonadorCallback callback;
+    private final RegistroEventos eventosLog = new RegistroEventos();
+
+    // Todas as fatias e overheads por núcleo, para o Gantt; null quando desligada
+    private LinhaDoTempo linhaDoTempo;
+    private boolean gravarLinhaDoTempo = true;
+    private long[] inicioFatiaMs; // início da fatia em curso em cada núcleo
+
+    // Fila definida pelo usuário; null = fila do algoritmo com parametrosFila
+    private FilaProntos filaPersonalizada;
+    private ParametrosFila parametrosFila = ParametrosFila.PADRAO;
+
+    // Construtor padrão com overhead default de 5ms
+    public Escalonador(Algoritmo algoritmo, int quantum, List<Processo> processos, EscalonadorCallback callback) {
+        this(algoritmo, quantum, processos, callback, 5);
+    }
+
+    // Construtor com overhead customizável
+    public Escalonador(Algoritmo algoritmo, int quantum, List<Processo> processos,
+                       EscalonadorCallback callback, int overheadTrocaMs) {
+        this(algoritmo, quantum, processos, callback, overheadTrocaMs, ModoExecucao.TEMPO_REAL);
+    }
+
+    // Construtor com overhead e modo de execução customizáveis
+    public Escalonador(Algoritmo algoritmo, int quantum, List<Processo> processos,
+                       EscalonadorCallback callback, int overheadTrocaMs, ModoExecucao modo) {
+        this(algoritmo, quantum, processos, callback, overheadTrocaMs, modo, 1);
+    }
+
+    // Construtor completo, com número de CPUs
+    public Escalonador(Algoritmo algoritmo, int quantum, List<Processo> processos,
+                       EscalonadorCallback callback, int overheadTrocaMs, ModoExecucao modo, int numCpus) {
+        this.modo = modo;
+        this.numCpus = Math.max(1, numCpus);
+        this.cpuPorNucleoNs = new long[this.numCpus];
+        this.trocasPorNucleo = new int[this.numCpus];
+        this.overheadPorNucleoMs = new long[this.numCpus];
+        this.inicioFatiaMs = new long[this.numCpus];
+        this.algoritmoSelecionado = algoritmo;
+        this.quantum = quantum;
+        this.listaProcessos = new ArrayList<>(processos);
+        this.callback = callback;
+        this.overheadTrocaMs = Math.max(0, overheadTrocaMs);
+
+        this.medidor = ManagementFactory.getThreadMXBean();
+        if (medidor.isThreadCpuTimeSupported() && !medidor.isThreadCpuTimeEnabled()) {
+            medidor.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    /**
+     * Função do método: Inicia o escalonamento dos processos conforme o algoritmo selecionado.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (executa escalonamento)
+     */
+    public void escalonar() {
+        callback.onLog(String.format(
+                "INICIANDO ESCALONAMENTO COM %s (Quantum: %dms, Overhead: %dms, CPUs: %d%s)\n",
+                algoritmoSelecionado, quantum, overheadTrocaMs, numCpus,
+                modo == ModoExecucao.TEMPO_SIMULADO ? ", tempo simulado" : ""
+        ));
+        linhaDoTempo = gravarLinhaDoTempo ? new LinhaDoTempo(numCpus) : null;
+        interrompido = false;
+        if (monitor != null) monitor.iniciarExecucao();
+        try {
+            if (modo == ModoExecucao.TEMPO_SIMULADO) {
+                escalonarSimulado();
+            } else {
+                inicioExecucao = System.currentTimeMillis();
+                escalonarTempoReal();
+                fimExecucao = System.currentTimeMillis();
+            }
+        } finally {
+            if (monitor != null) monitor.encerrarExecucao();
+        }
+        callback.onConcluido();
+    }
+
+    /**
+     * Função do método: Executa o escalonamento em tempo real. Com uma CPU roda no thread
+     * chamador; com várias, cada núcleo é um worker de um pool consumindo a fila compartilhada.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (executa escalonamento)
+     */
+    private void escalonarTempoReal() {
+        filaProntos = criarFilaProntos();
+        nucleosOcupados = 0;
+        prepararChegadas();
+
+        if (numCpus == 1) {
+            executarNucleo(0);
+            return;
+        }
+
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(numCpus,
+                r -> new Thread(r, "cpu-" + contador.getAndIncrement()));
+        List<Callable<Void>> nucleos = new ArrayList<>();
+        for (int i = 0; i < numCpus; i++) {
+            final int nucleo = i;
+            nucleos.add(() -> { executarNucleo(nucleo); return null; });
+        }
+        try {
+            for (Future<Void> f : pool.invokeAll(nucleos)) f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha em um núcleo do escalonador", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Função do método: Laço de um núcleo: retira o próximo processo da fila compartilhada,
+     * executa a fatia e devolve o processo à fila enquanto não terminar.
+     * Entrada: índice do núcleo
+     * Saída: Nenhuma (termina quando não há mais trabalho em nenhum núcleo)
+     */
+    private void executarNucleo(int nucleo) {
+        while (true) {
+            Processo p;
+            int fatia;
+            synchronized (trava) {
+                if (interrompido) {
+                    trava.notifyAll();
+                    return;
+                }
+                admitirChegadas();
+                // fila vazia, mas outro núcleo pode devolver um processo ou alguém ainda vai chegar
+                while (filaProntos.estaVazia() && (nucleosOcupados > 0 || proximaChegada < pendentes.size())) {
+                    long espera = proximaChegada < pendentes.size()
+                            ? Math.max(1L, inicioExecucao + pendentes.get(proximaChegada).getInstanteChegadaMs()
+                                    - System.currentTimeMillis())
+                            : 0L; // 0 = aguarda notificação de outro núcleo
+                    long inicioOcio = System.currentTimeMillis();
+                    try {
+                        trava.wait(espera);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } finally {
+                        tempoOciosoTotalMs += System.currentTimeMillis() - inicioOcio;
+                    }
+                    if (interrompido) break;
+                    admitirChegadas();
+                }
+                if (interrompido || filaProntos.estaVazia()) {
+                    trava.notifyAll();
+                    return;
+                }
+                long inicioDecisao = monitor != null ? System.nanoTime() : 0L;
+                p = filaProntos.remover();
+                fatia = filaProntos.fatia(p, quantum);
+                if (monitor != null) {
+                    monitor.registrarDecisao(System.nanoTime() - inicioDecisao, filaProntos.tamanho());
+                }
+                nucleosOcupados++;
+            }
+
+            int executado = executarProcesso(p, fatia, nucleo);
+
+            boolean haTroca;
+            synchronized (trava) {
+                nucleosOcupados--;
+                filaProntos.aoFimDaFatia(p, executado, System.currentTimeMillis() - inicioExecucao);
+                if (p.getEstado() != Processo.Estado.FINALIZADO) {
+                    filaProntos.adicionar(p);
+                }
+                haTroca = !filaProntos.estaVazia();
+                trava.notifyAll();
+            }
+            // overhead entre fatias (sempre que há uma decisão de troca)
+            if (haTroca) aplicarOverheadTroca(nucleo);
+        }
+    }
+
+    /**
+     * Função do método: Pede a parada antecipada do escalonamento. Fatias em curso terminam;
+     * processos não concluídos ficam de fora das métricas.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (escalonar() retorna assim que os núcleos percebem o pedido)
+     */
+    public void interromper() {
+        interrompido = true;
+        synchronized (trava) {
+            trava.notifyAll();
+        }
+    }
+
+    /**
+     * Função do método: Liga a publicação dos contadores deste escalonador em um monitor (JMX/Prometheus).
+     * Entrada: Monitor (ex.: MonitorEscalonador.para(algoritmo)); null desliga
+     * Saída: Nenhuma
+     */
+    public void setMonitor(MonitorEscalonador monitor) { this.monitor = monitor; }
+
+    /**
+     * Função do método: Informa se a última execução foi interrompida antes de concluir todos os processos.
+     * Entrada: Nenhuma
+     * Saída: true se interrompida
+     */
+    public boolean isInterrompido() { return interrompido; }
+
+    /**
+     * Função do método: Substitui a fila padrão do algoritmo por uma fila configurada
+     * (ex.: MLFQ com outro número de níveis ou período de boost).
+     * Entrada: Fila de prontos
+     * Saída: Nenhuma (atualiza configuração)
+     */
+    public void setFilaProntos(FilaProntos fila) { this.filaPersonalizada = fila; }
+
+    /**
+     * Função do método: Ajusta os parâmetros da fila do algoritmo (ex.: níveis e boost da MLFQ).
+     * Entrada: Parâmetros das filas
+     * Saída: Nenhuma (atualiza configuração)
+     */
+    public void setParametrosFila(ParametrosFila parametros) {
+        this.parametrosFila = parametros == null ? ParametrosFila.PADRAO : parametros;
+    }
+
+    private FilaProntos criarFilaProntos() {
+        return filaPersonalizada != null ? filaPersonalizada : FilaProntos.para(algoritmoSelecionado, parametrosFila);
+    }
+
+    /**
+     * Função do método: Ordena os processos pelo instante de chegada para admissão gradual.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (prepara lista de pendentes)
+     */
+    private void prepararChegadas() {
+        pendentes = new ArrayList<>(listaProcessos);
+        pendentes.sort(Comparator.comparingLong(Processo::getInstanteChegadaMs));
+        proximaChegada = 0;
+    }
+
+    /**
+     * Função do método: Admite na fila de prontos os processos cujo instante de chegada já passou.
+     * Deve ser chamado com a trava adquirida.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (atualiza fila de prontos)
+     */
+    private void admitirChegadas() {
+        long agora = System.currentTimeMillis();
+        while (proximaChegada < pendentes.size()
+                && inicioExecucao + pendentes.get(proximaChegada).getInstanteChegadaMs() <= agora) {
+            admitir(pendentes.get(proximaChegada++), inicioExecucao);
+        }
+    }
+
+    /**
+     * Função do método: Registra a chegada de um processo e o coloca na fila de prontos.
+     * Entrada: Processo, instante de referência do início da simulação (ms)
+     * Saída: Nenhuma (atualiza fila de prontos)
+     */
+    private void admitir(Processo p, long origemMs) {
+        p.setTempoChegada(origemMs + p.getInstanteChegadaMs());
+        p.pronto();
+        filaProntos.adicionar(p);
+        if (p.getInstanteChegadaMs() > 0) {
+            registrarEvento(RegistroEventos.Tipo.CHEGADA, p, -1, p.getInstanteChegadaMs(), 0, 0, 0);
+        }
+    }
+
+    /**
+     * Função do método: Executa uma fatia de tempo de um processo.
+     * Entrada: Processo, tempo de execução, índice do núcleo
+     * Saída: Tempo efetivamente executado na fatia (ms)
+     */
+    private int executarProcesso(Processo p, int tempoExecucao, int nucleo) {
+        p.pronto();
+        registrarInicioFatia(p, nucleo);
+
+        int antes = p.getTempoExecutado();
+        long cpuNs = p.executar(tempoExecucao, medidor); // mede CPU real do thread do núcleo
+        registrarCpu(nucleo, Math.max(0L, cpuNs));
+
+        int executado = p.getTempoExecutado() - antes;
+        registrarFimFatia(p, executado, nucleo, (int) (Math.max(0L, cpuNs) / 1_000_000L));
+        return executado;
+    }
+
+    /**
+     * Função do método: Notifica o início de uma fatia (evento e callback).
+     * Entrada: Processo, índice do núcleo
+     * Saída: Nenhuma
+     */
+    private void registrarInicioFatia(Processo p, int nucleo) {
+        long instante = instanteAtualMs();
+        inicioFatiaMs[nucleo] = instante;
+        registrarEvento(RegistroEventos.Tipo.INICIO_FATIA, p, nucleo, instante, p.getPrioridade(), 0, 0);
+        callback.onProcessoIniciado(p);
+    }
+
+    /**
+     * Função do método: Contabiliza a troca de contexto, grava a fatia na linha do tempo
+     * e notifica o fim da fatia.
+     * Entrada: Processo, tempo executado na fatia (ms), índice do núcleo, CPU gasta (ms)
+     * Saída: Nenhuma
+     */
+    private void registrarFimFatia(Processo p, int executado, int nucleo, int cpuMs) {
+        trocasPorNucleo[nucleo]++;
+
+        long instante = instanteAtualMs();
+        if (linhaDoTempo != null) {
+            linhaDoTempo.registrarFatia(nucleo, p.getIdProcesso(), inicioFatiaMs[nucleo], instante, cpuMs);
+        }
+        registrarEvento(RegistroEventos.Tipo.FIM_FATIA, p, nucleo, instante,
+                executado, p.getTempoExecutado(), p.getTempoExecucao());
+        if (monitor != null) monitor.registrarFatia();
+
+        if (p.getEstado() == Processo.Estado.FINALIZADO) {
+            if (monitor != null) monitor.registrarConclusao();
+            registrarEvento(RegistroEventos.Tipo.FINALIZADO, p, nucleo, instante, 0, 0, 0);
+            callback.onProcessoFinalizado(p);
+        } else {
+            registrarEvento(RegistroEventos.Tipo.SUSPENSO, p, nucleo, instante, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Função do método: Grava um evento no registro e avisa o callback, sem montar texto.
+     * Entrada: tipo, processo, núcleo, instante (ms), contadores do evento
+     * Saída: Nenhuma
+     */
+    private void registrarEvento(RegistroEventos.Tipo tipo, Processo p, int nucleo, long instanteMs,
+                                 int a, int b, int c) {
+        long seq = eventosLog.registrar(tipo, p.getIdProcesso(), nucleo, instanteMs, a, b, c);
+        callback.onEvento(eventosLog, seq);
+    }
+
+    /**
+     * Função do método: Retorna o instante atual desde o início da simulação.
+     * Entrada: Nenhuma
+     * Saída: Instante em ms (relógio virtual ou wall-clock)
+     */
+    private long instanteAtualMs() {
+        return modo == ModoExecucao.TEMPO_SIMULADO ? relogioMs : System.currentTimeMillis() - inicioExecucao;
+    }
+
+    /**
+     * Função do método: Acumula o tempo de CPU gasto por um núcleo.
+     * Entrada: índice do núcleo, CPU gasta (ns)
+     * Saída: Nenhuma (atualiza métricas)
+     */
+    private void registrarCpu(int nucleo, long cpuNs) {
+        cpuPorNucleoNs[nucleo] += cpuNs;
+        if (monitor != null) monitor.registrarCpu(cpuNs);
+    }
+
+    /**
+     * Função do método: Aplica o overhead de troca de contexto.
+     * Entrada: índice do núcleo
+     * Saída: Nenhuma (atualiza métricas)
+     */
+    private void aplicarOverheadTroca(int nucleo) {
+        if (overheadTrocaMs <= 0) return;
+        try {
+            long inicio = System.currentTimeMillis();
+            Thread.sleep(overheadTrocaMs);
+            long fim = System.currentTimeMillis();
+            overheadPorNucleoMs[nucleo] += fim - inicio;
+            if (monitor != null) monitor.registrarOverhead(fim - inicio);
+            if (linhaDoTempo != null) {
+                linhaDoTempo.registrarOverhead(nucleo, inicio - inicioExecucao, fim - inicioExecucao);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== MOTOR DE EVENTOS DISCRETOS (TEMPO SIMULADO) ==========
+
+    private static final class Evento implements Comparable<Evento> {
+        enum Tipo { CHEGADA, FIM_CPU, FIM_IO, FIM_OVERHEAD }
+
+        final long tempo;
+        final long sequencia; // desempate estável entre eventos no mesmo instante
+        final Tipo tipo;
+        final Processo processo;
+        final int nucleo;
+
+        Evento(long tempo, long sequencia, Tipo tipo, Processo processo, int nucleo) {
+            this.tempo = tempo;
+            this.sequencia = sequencia;
+            this.tipo = tipo;
+            this.processo = processo;
+            this.nucleo = nucleo;
+        }
+
+        @Override
+        public int compareTo(Evento o) {
+            int c = Long.compare(tempo, o.tempo);
+            return c != 0 ? c : Long.compare(sequencia, o.sequencia);
+        }
+    }
+
+    private PriorityQueue<Evento> eventos;
+    private FilaProntos filaProntos;
+    private long relogioMs;
+    private long sequenciaEventos;
+
+    // Estado de cada CPU simulada (indexado pelo núcleo)
+    private Processo[] emExecucao;
+    private int[] fatiaAtualMs;
+    private long[] cpuAtualMs;
+    private boolean[] emOverhead;
+    private long[] ociosoDesdeMs; // instante em que cada núcleo ficou livre
+
+    /**
+     * Função do método: Executa o escalonamento em tempo simulado, avançando um relógio
+     * virtual de evento em evento (chegada, fim da parcela de CPU, fim do I/O, overhead).
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (preenche os tempos dos processos com o relógio virtual)
+     */
+    private void escalonarSimulado() {
+        eventos = new PriorityQueue<>();
+        filaProntos = criarFilaProntos();
+        relogioMs = 0L;
+        sequenciaEventos = 0L;
+        emExecucao = new Processo[numCpus];
+        fatiaAtualMs = new int[numCpus];
+        cpuAtualMs = new long[numCpus];
+        emOverhead = new boolean[numCpus];
+        ociosoDesdeMs = new long[numCpus];
+        inicioExecucao = 0L;
+
+        for (Processo p : listaProcessos) {
+            agendar(p.getInstanteChegadaMs(), Evento.Tipo.CHEGADA, p, -1);
+        }
+
+        while (!eventos.isEmpty() && !interrompido) {
+            relogioMs = eventos.peek().tempo;
+            // trata todos os eventos do instante antes de decidir o despacho
+            while (!eventos.isEmpty() && eventos.peek().tempo == relogioMs) {
+                tratarEvento(eventos.poll());
+            }
+            for (int n = 0; n < numCpus && !filaProntos.estaVazia(); n++) {
+                if (emExecucao[n] == null && !emOverhead[n]) despacharSimulado(n);
+            }
+        }
+
+        fimExecucao = relogioMs;
+        for (int n = 0; n < numCpus; n++) {
+            if (emExecucao[n] == null && !emOverhead[n]) { // ocupado só se interrompido no meio
+                tempoOciosoTotalMs += fimExecucao - ociosoDesdeMs[n];
+            }
+        }
+    }
+
+    /**
+     * Função do método: Agenda um evento no relógio virtual.
+     * Entrada: instante (ms), tipo do evento, processo associado, núcleo (-1 se nenhum)
+     * Saída: Nenhuma (atualiza fila de eventos)
+     */
+    private void agendar(long tempo, Evento.Tipo tipo, Processo p, int nucleo) {
+        eventos.add(new Evento(tempo, sequenciaEventos++, tipo, p, nucleo));
+    }
+
+    /**
+     * Função do método: Trata um evento do relógio virtual.
+     * Entrada: Evento
+     * Saída: Nenhuma (atualiza estado da simulação)
+     */
+    private void tratarEvento(Evento e) {
+        switch (e.tipo) {
+            case CHEGADA -> admitir(e.processo, 0L);
+            case FIM_CPU -> {
+                int n = e.nucleo;
+                registrarCpu(n, cpuAtualMs[n] * 1_000_000L);
+                long ioMs = fatiaAtualMs[n] - cpuAtualMs[n];
+                if (ioMs > 0) agendar(relogioMs + ioMs, Evento.Tipo.FIM_IO, e.processo, n);
+                else concluirFatiaSimulada(e.processo, n);
+            }
+            case FIM_IO -> concluirFatiaSimulada(e.processo, e.nucleo);
+            case FIM_OVERHEAD -> {
+                overheadPorNucleoMs[e.nucleo] += overheadTrocaMs;
+                if (monitor != null) monitor.registrarOverhead(overheadTrocaMs);
+                emOverhead[e.nucleo] = false;
+                ociosoDesdeMs[e.nucleo] = relogioMs;
+            }
+        }
+    }
+
+    /**
+     * Função do método: Despacha o próximo processo pronto em uma CPU simulada livre.
+     * Entrada: índice do núcleo
+     * Saída: Nenhuma (agenda o fim da parcela de CPU)
+     */
+    private void despacharSimulado(int nucleo) {
+        long inicioDecisao = monitor != null ? System.nanoTime() : 0L;
+        Processo p = filaProntos.remover();
+        int fatia = filaProntos.fatia(p, quantum);
+        if (monitor != null) monitor.registrarDecisao(System.nanoTime() - inicioDecisao, filaProntos.tamanho());
+        p.pronto();
+        registrarInicioFatia(p, nucleo);
+
+        tempoOciosoTotalMs += relogioMs - ociosoDesdeMs[nucleo];
+        emExecucao[nucleo] = p;
+        fatiaAtualMs[nucleo] = p.iniciarFatiaSimulada(fatia, relogioMs);
+        cpuAtualMs[nucleo] = p.getParcelaCpuMs(fatiaAtualMs[nucleo]);
+        agendar(relogioMs + cpuAtualMs[nucleo], Evento.Tipo.FIM_CPU, p, nucleo);
+    }
+
+    /**
+     * Função do método: Encerra a fatia em curso e agenda o overhead da próxima troca.
+     * Entrada: Processo em execução, índice do núcleo
+     * Saída: Nenhuma (atualiza fila de prontos e métricas)
+     */
+    private void concluirFatiaSimulada(Processo p, int nucleo) {
+        p.concluirFatiaSimulada(fatiaAtualMs[nucleo], relogioMs);
+        emExecucao[nucleo] = null;
+        registrarFimFatia(p, fatiaAtualMs[nucleo], nucleo, (int) cpuAtualMs[nucleo]);
+        filaProntos.aoFimDaFatia(p, fatiaAtualMs[nucleo], relogioMs);
+
+        if (p.getEstado() != Processo.Estado.FINALIZADO) {
+            filaProntos.adicionar(p);
+        }
+        // overhead somente quando há uma decisão de troca pendente
+        if (!filaProntos.estaVazia() && overheadTrocaMs > 0) {
+            emOverhead[nucleo] = true;
+            agendar(relogioMs + overheadTrocaMs, Evento.Tipo.FIM_OVERHEAD, null, nucleo);
+            if (linhaDoTempo != null) {
+                linhaDoTempo.registrarOverhead(nucleo, relogioMs, relogioMs + overheadTrocaMs);
+            }
+        } else {
+            ociosoDesdeMs[nucleo] = relogioMs;
+        }
+    }
+
+    // Getters de métricas
+    /**
+     * Função do método: Retorna o tempo total de execução da simulação.
+     * Entrada: Nenhuma
+     * Saída: Tempo total em ms
+     */
+    public double getTempoTotal() { return fimExecucao - inicioExecucao; }
+    /**
+     * Função do método: Retorna o número de trocas de contexto realizadas.
+     * Entrada: Nenhuma
+     * Saída: Número de trocas de contexto
+     */
+    public int getTrocasContexto() { return Arrays.stream(trocasPorNucleo).sum(); }
+    /**
+     * Função do método: Retorna o modo de execução (tempo real ou simulado).
+     * Entrada: Nenhuma
+     * Saída: Modo de execução
+     */
+    public ModoExecucao getModo() { return modo; }
+    /**
+     * Função do método: Retorna o registro estruturado de eventos da execução.
+     * Entrada: Nenhuma
+     * Saída: Registro de eventos (buffer circular)
+     */
+    public RegistroEventos getRegistroEventos() { return eventosLog; }
+    /**
+     * Função do método: Retorna a linha do tempo (fatias e overheads por núcleo) da última execução.
+     * Entrada: Nenhuma
+     * Saída: Linha do tempo, ou null se a gravação estiver desligada
+     */
+    public LinhaDoTempo getLinhaDoTempo() { return linhaDoTempo; }
+    /**
+     * Função do método: Liga ou desliga a gravação da linha do tempo (ligada por padrão).
+     * Entrada: true para gravar cada fatia
+     * Saída: Nenhuma (vale a partir do próximo escalonar())
+     */
+    public void setGravarLinhaDoTempo(boolean gravar) { this.gravarLinhaDoTempo = gravar; }
+    /**
+     * Função do método: Retorna a lista de processos gerenciados.
+     * Entrada: Nenhuma
+     * Saída: Lista de processos
+     */
+    public List<Processo> getProcessos() { return listaProcessos; }
+
+    /**
+     * Função do método: Retorna o tempo total de overhead de trocas de contexto.
+     * Entrada: Nenhuma
+     * Saída: Tempo de overhead em ms
+     */
+    public long getTempoOverheadTotalMs() { return Arrays.stream(overheadPorNucleoMs).sum(); }
+    /**
+     * Função do método: Retorna o tempo ocioso somado de todos os núcleos (sem processo pronto).
+     * Entrada: Nenhuma
+     * Saída: Tempo ocioso em ms
+     */
+    public long getTempoOciosoTotalMs() { return tempoOciosoTotalMs; }
+
+    /** CPU real total gasta executando as "partes CPU" das fatias (em nanos) */
+    /**
+     * Função do método: Retorna o tempo total de CPU real gasto pelo escalonador.
+     * Entrada: Nenhuma
+     * Saída: Tempo de CPU em nanossegundos
+     */
+    public long getCpuTotalNs() { return Arrays.stream(cpuPorNucleoNs).sum(); }
+    /**
+     * Função do método: Retorna o número de CPUs simuladas.
+     * Entrada: Nenhuma
+     * Saída: Número de CPUs
+     */
+    public int getNumCpus() { return numCpus; }
+    /**
+     * Função do método: Retorna o tempo de CPU gasto por núcleo.
+     * Entrada: Nenhuma
+     * Saída: Vetor com o tempo de CPU de cada núcleo (ns)
+     */
+    public long[] getCpuPorNucleoNs() { return cpuPorNucleoNs.clone(); }
+}
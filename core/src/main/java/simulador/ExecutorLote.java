@@ -0,0 +1,361 @@
+package simulador;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Execução sem interface gráfica: roda o produto cartesiano dos parâmetros
+ * informados na linha de comando e grava os resultados em CSV ou JSON.
+ *
+ * Exemplo:
+ *   java -cp core/target/classes simulador.ExecutorLote --algoritmos ROUND_ROBIN,SJF --quantum 100:1000:100
+ *                                                     --processos 50 --seeds 1,2,3 --overhead 5 --saida resultados.csv
+ */
+public class ExecutorLote {
+
+    private static final String USO = String.join("\n",
+            "Uso: java -cp <classpath> simulador.ExecutorLote [opções]",
+            "  --algoritmos  LISTA       algoritmos separados por vírgula ou TODOS (padrão: TODOS)",
+            "  --quantum     FAIXA       quantum em ms (padrão: 1000)",
+            "  --processos   FAIXA       número de processos (padrão: 10)",
+            "  --seeds       FAIXA       sementes da carga (padrão: 42)",
+            "  --overhead    FAIXA       overhead por troca em ms (padrão: 5)",
+            "  --cpus        FAIXA       número de CPUs (padrão: 1)",
+            "  --modo        MODO        simulado | real (padrão: simulado)",
+            "  --motor       MOTOR       objetos | compacto (padrão: objetos); compacto usa vetores",
+            "                            primitivos para milhões de processos (só tempo simulado;",
+            "                            ROUND_ROBIN, PRIORIDADE, PRIORIDADE_PREEMPTIVA, SJF, SRTF)",
+            "  --chegada     MODELO      SIMULTANEA | POISSON | RAJADAS (padrão: SIMULTANEA)",
+            "  --taxa        N           taxa média de chegada em processos/s (padrão: 1.0)",
+            "  --trace       ARQUIVO     carga lida de um trace CSV ou binário em vez de gerada;",
+            "                            --processos limita os registros (padrão: 0 = todos)",
+            "  --carga       ESPEC       carga sorteada de distribuições em vez da legada, ex.:",
+            "                            \"burst=pareto:500:1.2:300000;intervalo=exp:200;correlacao=0.7\"",
+            "                            (burst, intervalo: const:V | uniforme:MIN:MAX | exp:MEDIA |",
+            "                            pareto:MIN:ALFA[:MAX] | bimodal:P:MEDIA_A:MEDIA_B, em ms;",
+            "                            cpu: distribuição em 0..1; correlacao prioridade/burst em -1..1)",
+            "  --converter   DESTINO     com --trace, grava o trace no formato binário e sai",
+            "  --mlfq-niveis N           níveis da MLFQ (padrão: 3, quantum dobrando a cada nível)",
+            "  --mlfq-quanta LISTA       quanta de cada nível da MLFQ em ms (ex.: 100,200,400)",
+            "  --mlfq-boost  MS          período de boost da MLFQ em ms (padrão: 20 quanta)",
+            "  --cfs-latencia MS         latência alvo do CFS em ms (padrão: 6 quanta)",
+            "  --cfs-granularidade MS    granularidade mínima do CFS em ms (padrão: 0,75 quantum)",
+            "  --formato     FORMATO     csv | json (padrão: pela extensão da saída, senão csv)",
+            "  --saida       ARQUIVO     arquivo de saída (padrão: saída padrão)",
+            "  --paralelismo N           cenários executados em paralelo (padrão: núcleos disponíveis)",
+            "  --historico   DIRETORIO   acrescenta os resultados ao histórico em disco e compara",
+            "                            cada cenário com a execução anterior de mesmo nome",
+            "  --monitorar   jmx|PORTA   publica contadores via JMX; com PORTA também em",
+            "                            http://127.0.0.1:PORTA/metrics (formato Prometheus)",
+            "FAIXA aceita um valor (10), uma lista (1,2,3) ou inicio:fim[:passo] (100:1000:100).");
+
+    // Opções aceitas por lerOpcoes (qualquer outra é rejeitada)
+    private static final Set<String> OPCOES = Set.of("algoritmos", "quantum", "processos", "seeds", "overhead",
+            "cpus", "modo", "motor", "chegada", "taxa", "trace", "carga", "converter", "formato", "saida",
+            "paralelismo", "historico", "monitorar", "mlfq-niveis", "mlfq-quanta", "mlfq-boost",
+            "cfs-latencia", "cfs-granularidade");
+
+    public static void main(String[] args) {
+        try {
+            Map<String, String> opcoes = lerOpcoes(args);
+            if (opcoes.containsKey("converter")) {
+                converterTrace(opcoes);
+                return;
+            }
+            List<Cenario> cenarios = montarCenarios(opcoes);
+            String saida = opcoes.get("saida");
+            String formato = opcoes.getOrDefault("formato",
+                    saida != null && saida.toLowerCase(Locale.ROOT).endsWith(".json") ? "json" : "csv");
+
+            int paralelismo = opcoes.containsKey("paralelismo")
+                    ? lerValor("paralelismo", opcoes.get("paralelismo"), 1)
+                    : Runtime.getRuntime().availableProcessors();
+            ExportadorPrometheus exportador = iniciarMonitoramento(opcoes.get("monitorar"));
+            Function<Cenario, ResultadoCenario> motor = switch (opcoes.getOrDefault("motor", "objetos").toLowerCase(Locale.ROOT)) {
+                case "objetos" -> Cenario::executar;
+                case "compacto" -> Cenario::executarCompacto;
+                default -> throw new IllegalArgumentException("Motor desconhecido: " + opcoes.get("motor"));
+            };
+            List<ResultadoCenario> resultados;
+            try {
+                resultados = new Varredura(paralelismo).executar(cenarios, motor);
+            } finally {
+                if (exportador != null) exportador.parar();
+            }
+
+            if (saida == null) {
+                escrever(resultados, formato, new PrintWriter(System.out, true, StandardCharsets.UTF_8));
+            } else {
+                try (Writer w = Files.newBufferedWriter(Path.of(saida), StandardCharsets.UTF_8)) {
+                    escrever(resultados, formato, w);
+                }
+                System.err.printf("%d cenários gravados em %s%n", resultados.size(), saida);
+            }
+            if (opcoes.containsKey("historico")) {
+                registrarNoHistorico(Path.of(opcoes.get("historico")), resultados);
+            }
+        } catch (IllegalArgumentException e) {
+            falhar(e.getMessage());
+        } catch (UncheckedIOException e) {
+            System.err.println(e.getMessage() + ": " + e.getCause().getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar resultados: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Função do método: Compara os resultados com a última execução de cada cenário no histórico
+     * e os acrescenta a ele.
+     * Entrada: diretório do histórico, resultados da varredura
+     * Saída: Nenhuma (resumo da comparação na saída de erro)
+     */
+    private static void registrarNoHistorico(Path diretorio, List<ResultadoCenario> resultados) throws IOException {
+        try (HistoricoResultados historico = HistoricoResultados.abrir(diretorio)) {
+            Map<String, Integer> anteriores = historico.ultimasPorNome(0);
+            int comparados = 0, alterados = 0;
+            String maiorVariacao = null;
+            double maiorDelta = 0.0;
+            for (ResultadoCenario r : resultados) {
+                Integer anterior = anteriores.get(r.cenario().nome());
+                if (anterior != null) {
+                    comparados++;
+                    double antes = historico.valor(HistoricoResultados.Metrica.RETORNO_MEDIO_MS, anterior);
+                    double delta = antes == 0.0 ? 0.0 : (r.tempoMedioRetornoMs() - antes) / antes * 100.0;
+                    if (r.tempoMedioRetornoMs() != antes) alterados++;
+                    if (Math.abs(delta) > Math.abs(maiorDelta)) {
+                        maiorDelta = delta;
+                        maiorVariacao = r.cenario().nome();
+                    }
+                }
+            }
+            historico.registrarTodos(resultados);
+            System.err.printf("Histórico %s: %d execuções; %d cenários comparados, %d com retorno médio diferente%n",
+                    diretorio, historico.tamanho(), comparados, alterados);
+            if (maiorVariacao != null) {
+                System.err.printf(Locale.ROOT, "  maior variação: %s (%+.2f%%)%n", maiorVariacao, maiorDelta);
+            }
+        }
+    }
+
+    /**
+     * Função do método: Converte o trace de --trace para o formato binário em --converter.
+     * Entrada: opções lidas
+     * Saída: Nenhuma
+     */
+    private static void converterTrace(Map<String, String> opcoes) throws IOException {
+        String origem = opcoes.get("trace");
+        if (origem == null) throw new IllegalArgumentException("--converter exige --trace");
+        long total = LeitorTrace.converterParaBinario(Path.of(origem), Path.of(opcoes.get("converter")));
+        System.err.printf("%d processos gravados em %s%n", total, opcoes.get("converter"));
+    }
+
+    /**
+     * Função do método: Liga o monitoramento pedido na linha de comando.
+     * Entrada: valor de --monitorar (null, "jmx" ou porta)
+     * Saída: Exportador Prometheus em execução, ou null
+     */
+    static ExportadorPrometheus iniciarMonitoramento(String valor) throws IOException {
+        if (valor == null) return null;
+        MonitorEscalonador.ativar();
+        if (valor.equalsIgnoreCase("jmx")) return null;
+        try {
+            ExportadorPrometheus exportador = ExportadorPrometheus.iniciar(Integer.parseInt(valor));
+            System.err.printf("Métricas em http://127.0.0.1:%d/metrics%n", exportador.getPorta());
+            return exportador;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para --monitorar: " + valor);
+        }
+    }
+
+    /**
+     * Função do método: Lê os pares "--opção valor" da linha de comando.
+     * Entrada: argumentos
+     * Saída: Mapa opção → valor
+     */
+    static Map<String, String> lerOpcoes(String[] args) {
+        Map<String, String> opcoes = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if (a.equals("-h") || a.equals("--ajuda") || a.equals("--help")) {
+                System.out.println(USO);
+                System.exit(0);
+            }
+            if (!a.startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Opção inválida ou sem valor: " + a);
+            }
+            String nome = a.substring(2);
+            if (!OPCOES.contains(nome)) throw new IllegalArgumentException("Opção desconhecida: " + a);
+            opcoes.put(nome, args[++i]);
+        }
+        return opcoes;
+    }
+
+    /**
+     * Função do método: Monta o produto cartesiano dos parâmetros em cenários.
+     * Entrada: opções lidas
+     * Saída: Lista de cenários
+     */
+    static List<Cenario> montarCenarios(Map<String, String> opcoes) {
+        List<Escalonador.Algoritmo> algoritmos = lerAlgoritmos(opcoes.getOrDefault("algoritmos", "TODOS"));
+        List<Integer> quanta = lerFaixa("quantum", opcoes.getOrDefault("quantum", "1000"), 1);
+        Path trace = opcoes.containsKey("trace") ? Path.of(opcoes.get("trace")) : null;
+        if (trace != null && !Files.isReadable(trace)) throw new IllegalArgumentException("Trace não encontrado: " + trace);
+        List<Integer> processos = lerFaixa("processos", opcoes.getOrDefault("processos", trace != null ? "0" : "10"), 0);
+        List<Integer> seeds = lerFaixa(opcoes.getOrDefault("seeds", "42"));
+        List<Integer> overheads = lerFaixa("overhead", opcoes.getOrDefault("overhead", "5"), 0);
+        List<Integer> cpus = lerFaixa("cpus", opcoes.getOrDefault("cpus", "1"), 1);
+        Escalonador.ModoExecucao modo = switch (opcoes.getOrDefault("modo", "simulado").toLowerCase(Locale.ROOT)) {
+            case "simulado" -> Escalonador.ModoExecucao.TEMPO_SIMULADO;
+            case "real" -> Escalonador.ModoExecucao.TEMPO_REAL;
+            default -> throw new IllegalArgumentException("Modo desconhecido: " + opcoes.get("modo"));
+        };
+        Avaliador.ModeloChegada chegada = Avaliador.ModeloChegada.valueOf(
+                opcoes.getOrDefault("chegada", "SIMULTANEA").toUpperCase(Locale.ROOT));
+        double taxa = opcoes.containsKey("taxa") ? lerPositivo("taxa", opcoes.get("taxa")) : 1.0;
+        ModeloCarga carga = opcoes.containsKey("carga") ? ModeloCarga.ler(opcoes.get("carga")) : null;
+        if (carga != null && trace != null) throw new IllegalArgumentException("Use --trace ou --carga, não ambos");
+        ParametrosFila parametrosFila = lerParametrosFila(opcoes);
+
+        List<Cenario> cenarios = new ArrayList<>();
+        for (Escalonador.Algoritmo alg : algoritmos)
+            for (int q : quanta)
+                for (int n : processos)
+                    for (int s : seeds)
+                        for (int o : overheads)
+                            for (int c : cpus)
+                                cenarios.add(new Cenario(alg, q, n, s, o, c, modo, chegada, taxa, trace, carga,
+                                        parametrosFila));
+        return cenarios;
+    }
+
+    /**
+     * Função do método: Lê os ajustes das filas (--mlfq-*, --cfs-*); os ausentes ficam no padrão.
+     * Entrada: opções lidas
+     * Saída: Parâmetros das filas
+     */
+    private static ParametrosFila lerParametrosFila(Map<String, String> opcoes) {
+        int niveis = opcoes.containsKey("mlfq-niveis") ? lerValor("mlfq-niveis", opcoes.get("mlfq-niveis"), 1) : 0;
+        List<Integer> quanta = opcoes.containsKey("mlfq-quanta")
+                ? lerFaixa("mlfq-quanta", opcoes.get("mlfq-quanta"), 1) : List.of();
+        int boost = opcoes.containsKey("mlfq-boost") ? lerValor("mlfq-boost", opcoes.get("mlfq-boost"), 1) : 0;
+        int latencia = opcoes.containsKey("cfs-latencia") ? lerValor("cfs-latencia", opcoes.get("cfs-latencia"), 1) : 0;
+        int granularidade = opcoes.containsKey("cfs-granularidade")
+                ? lerValor("cfs-granularidade", opcoes.get("cfs-granularidade"), 1) : 0;
+        return new ParametrosFila(niveis, quanta, boost, latencia, granularidade);
+    }
+
+    private static List<Escalonador.Algoritmo> lerAlgoritmos(String valor) {
+        if (valor.equalsIgnoreCase("TODOS")) return List.of(Escalonador.Algoritmo.values());
+        List<Escalonador.Algoritmo> lista = new ArrayList<>();
+        for (String nome : valor.split(",")) {
+            lista.add(Escalonador.Algoritmo.valueOf(nome.trim().toUpperCase(Locale.ROOT)));
+        }
+        return lista;
+    }
+
+    /**
+     * Função do método: Interpreta um valor, lista (a,b,c) ou faixa (inicio:fim[:passo]).
+     * Entrada: texto da faixa
+     * Saída: Lista de inteiros
+     */
+    static List<Integer> lerFaixa(String valor) {
+        List<Integer> lista = new ArrayList<>();
+        try {
+            if (valor.contains(":")) {
+                String[] partes = valor.split(":");
+                int inicio = Integer.parseInt(partes[0].trim());
+                int fim = Integer.parseInt(partes[1].trim());
+                int passo = partes.length > 2 ? Integer.parseInt(partes[2].trim()) : 1;
+                if (passo <= 0) throw new IllegalArgumentException("Passo deve ser positivo: " + valor);
+                for (int v = inicio; v <= fim; v += passo) lista.add(v);
+            } else {
+                for (String v : valor.split(",")) lista.add(Integer.parseInt(v.trim()));
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Faixa inválida: " + valor);
+        }
+        if (lista.isEmpty()) throw new IllegalArgumentException("Faixa vazia: " + valor);
+        return lista;
+    }
+
+    /**
+     * Função do método: Interpreta a faixa de uma opção e rejeita valores abaixo do mínimo.
+     * Entrada: nome da opção, texto da faixa, menor valor aceito
+     * Saída: Lista de inteiros
+     */
+    static List<Integer> lerFaixa(String opcao, String valor, int minimo) {
+        List<Integer> lista = lerFaixa(valor);
+        for (int v : lista) {
+            if (v < minimo) {
+                throw new IllegalArgumentException("--" + opcao + " deve ser >= " + minimo + ": " + v);
+            }
+        }
+        return lista;
+    }
+
+    // Opção de um valor só (sem lista nem faixa), >= minimo
+    private static int lerValor(String opcao, String valor, int minimo) {
+        List<Integer> lista = lerFaixa(opcao, valor, minimo);
+        if (lista.size() != 1) throw new IllegalArgumentException("--" + opcao + " aceita um único valor: " + valor);
+        return lista.get(0);
+    }
+
+    // Opção real finita e > 0 (ex.: --taxa)
+    private static double lerPositivo(String opcao, String valor) {
+        double v;
+        try {
+            v = Double.parseDouble(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + opcao + " inválido: " + valor);
+        }
+        if (!Double.isFinite(v) || v <= 0) {
+            throw new IllegalArgumentException("--" + opcao + " deve ser finito e > 0: " + valor);
+        }
+        return v;
+    }
+
+    /**
+     * Função do método: Grava os resultados no formato pedido.
+     * Entrada: resultados, formato (csv | json), destino
+     * Saída: Nenhuma (escreve no destino)
+     */
+    static void escrever(List<ResultadoCenario> resultados, String formato, Writer destino) throws IOException {
+        PrintWriter out = destino instanceof PrintWriter pw ? pw : new PrintWriter(destino);
+        switch (formato.toLowerCase(Locale.ROOT)) {
+            case "csv" -> {
+                out.println(ResultadoCenario.CABECALHO_CSV);
+                for (ResultadoCenario r : resultados) out.println(r.paraCsv());
+            }
+            case "json" -> {
+                out.println("[");
+                for (int i = 0; i < resultados.size(); i++) {
+                    out.print("  " + resultados.get(i).paraJson());
+                    out.println(i < resultados.size() - 1 ? "," : "");
+                }
+                out.println("]");
+            }
+            default -> throw new IllegalArgumentException("Formato desconhecido: " + formato);
+        }
+        out.flush();
+    }
+
+    private static void falhar(String mensagem) {
+        System.err.println("Erro: " + mensagem);
+        System.err.println(USO);
+        System.exit(2);
+    }
+}
@@ -0,0 +1,105 @@
+package simulador;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exportador local no formato texto do Prometheus: GET /metrics em
+ * 127.0.0.1:porta devolve os contadores de todos os MonitorEscalonador.
+ * Não abre a porta para outras máquinas.
+ */
+public final class ExportadorPrometheus {
+
+    private final HttpServer servidor;
+
+    private ExportadorPrometheus(HttpServer servidor) {
+        this.servidor = servidor;
+    }
+
+    /**
+     * Função do método: Sobe o servidor HTTP local e liga o monitoramento.
+     * Entrada: porta (0 = qualquer porta livre)
+     * Saída: Exportador em execução
+     */
+    public static ExportadorPrometheus iniciar(int porta) throws IOException {
+        MonitorEscalonador.ativar();
+        HttpServer servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), porta), 0);
+        servidor.createContext("/metrics", troca -> {
+            byte[] corpo = formatar(MonitorEscalonador.todos()).getBytes(StandardCharsets.UTF_8);
+            troca.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream out = troca.getResponseBody()) {
+                out.write(corpo);
+            }
+        });
+        servidor.start();
+        return new ExportadorPrometheus(servidor);
+    }
+
+    public int getPorta() { return servidor.getAddress().getPort(); }
+
+    /**
+     * Função do método: Para o servidor HTTP.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma
+     */
+    public void parar() {
+        servidor.stop(0);
+    }
+
+    /**
+     * Função do método: Formata os monitores no formato de exposição texto do Prometheus.
+     * Entrada: Monitores
+     * Saída: Texto com HELP/TYPE e uma amostra por algoritmo
+     */
+    public static String formatar(Collection<MonitorEscalonador> monitores) {
+        StringBuilder sb = new StringBuilder();
+        metrica(sb, monitores, "simulador_execucoes_ativas", "gauge",
+                "Escalonadores em execução", MonitorEscalonador::getExecucoesAtivas);
+        metrica(sb, monitores, "simulador_fila_prontos", "gauge",
+                "Tamanho da fila de prontos na última decisão", MonitorEscalonador::getTamanhoFilaProntos);
+        metrica(sb, monitores, "simulador_fatias_total", "counter",
+                "Fatias executadas", MonitorEscalonador::getFatias);
+        metrica(sb, monitores, "simulador_fatias_por_segundo", "gauge",
+                "Fatias por segundo de relógio", MonitorEscalonador::getFatiasPorSegundo);
+        metrica(sb, monitores, "simulador_overhead_troca_ms_total", "counter",
+                "Overhead de troca de contexto (ms)", MonitorEscalonador::getOverheadTotalMs);
+        metrica(sb, monitores, "simulador_cpu_segundos_total", "counter",
+                "CPU gasta executando fatias (s)", m -> m.getCpuTotalMs() / 1000.0);
+        metrica(sb, monitores, "simulador_processos_concluidos_total", "counter",
+                "Processos concluídos", MonitorEscalonador::getProcessosConcluidos);
+
+        String nome = "simulador_decisao_latencia_segundos";
+        sb.append("# HELP ").append(nome).append(" Latência da decisão de escalonamento\n");
+        sb.append("# TYPE ").append(nome).append(" summary\n");
+        for (MonitorEscalonador m : monitores) {
+            amostra(sb, nome + "_sum", m, m.getLatenciaTotalDecisaoNs() / 1e9);
+            amostra(sb, nome + "_count", m, m.getDecisoes());
+        }
+        metrica(sb, monitores, "simulador_decisao_latencia_maxima_segundos", "gauge",
+                "Maior latência de decisão observada", m -> m.getLatenciaMaximaDecisaoNs() / 1e9);
+        return sb.toString();
+    }
+
+    private static void metrica(StringBuilder sb, Collection<MonitorEscalonador> monitores, String nome,
+                                String tipo, String ajuda, ToDoubleFunction<MonitorEscalonador> valor) {
+        sb.append("# HELP ").append(nome).append(' ').append(ajuda).append('\n');
+        sb.append("# TYPE ").append(nome).append(' ').append(tipo).append('\n');
+        for (MonitorEscalonador m : monitores) amostra(sb, nome, m, valor.applyAsDouble(m));
+    }
+
+    private static void amostra(StringBuilder sb, String nome, MonitorEscalonador m, double valor) {
+        sb.append(nome).append("{algoritmo=\"").append(m.getAlgoritmo()).append("\"} ")
+                .append(valor == Math.rint(valor) && Math.abs(valor) < 1e15
+                        ? Long.toString((long) valor) : String.format(Locale.ROOT, "%.9g", valor))
+                .append('\n');
+    }
+}
@@ -0,0 +1,103 @@
+package simulador;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Completely Fair Scheduler simplificado. Cada processo acumula um vruntime
+ * (tempo executado ponderado pelo peso da prioridade, como a tabela nice→peso do
+ * Linux) e o próximo a executar é o nó mais à esquerda de uma árvore rubro-negra
+ * (TreeSet) ordenada por vruntime. A fatia é dinâmica: o período
+ * max(latência alvo, n × granularidade mínima) dividido proporcionalmente ao peso.
+ * Sem valores explícitos, latência alvo = 6 quanta e granularidade = 0,75 quantum,
+ * a mesma razão dos padrões do Linux (6 ms / 0,75 ms).
+ */
+class FilaCfs implements FilaProntos {
+    // sched_prio_to_weight do kernel, de nice -20 a 19
+    private static final int[] PESOS_NICE = {
+            88761, 71755, 56483, 46273, 36291,
+            29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906,
+            3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423,
+            335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45,
+            36, 29, 23, 18, 15
+    };
+    private static final int PESO_NICE_0 = 1024;
+
+    private record Entrada(Processo processo, long vruntime, long ordem) {}
+
+    private final TreeSet<Entrada> arvore = new TreeSet<>(
+            Comparator.comparingLong(Entrada::vruntime).thenComparingLong(Entrada::ordem));
+    private final Map<Processo, Long> vruntime = new HashMap<>();
+    private final long latenciaAlvoMs;      // <= 0 = 6 × quantum
+    private final long granularidadeMinMs;  // <= 0 = 0,75 × quantum
+    private long minVruntime = 0;
+    private long pesoTotal = 0;
+    private long proximaOrdem = 0;
+
+    FilaCfs(long latenciaAlvoMs, long granularidadeMinMs) {
+        this.latenciaAlvoMs = latenciaAlvoMs;
+        this.granularidadeMinMs = granularidadeMinMs;
+    }
+
+    /**
+     * Função do método: Converte a prioridade (1–10, maior = mais importante) em peso CFS.
+     * Prioridade 5 equivale a nice 0; cada ponto vale 2 níveis de nice.
+     * Entrada: Processo
+     * Saída: Peso
+     */
+    static int peso(Processo p) {
+        int nice = Math.max(-20, Math.min(19, 2 * (5 - p.getPrioridade())));
+        return PESOS_NICE[nice + 20];
+    }
+
+    @Override
+    public void adicionar(Processo p) {
+        // recém-chegados (e quem ficou muito atrás) entram no vruntime mínimo atual
+        long v = Math.max(vruntime.getOrDefault(p, minVruntime), minVruntime);
+        vruntime.put(p, v);
+        arvore.add(new Entrada(p, v, proximaOrdem++));
+        pesoTotal += peso(p);
+    }
+
+    @Override
+    public Processo remover() {
+        Entrada e = arvore.pollFirst();
+        if (e == null) return null;
+        pesoTotal -= peso(e.processo());
+        minVruntime = Math.max(minVruntime, e.vruntime());
+        return e.processo();
+    }
+
+    @Override
+    public boolean estaVazia() { return arvore.isEmpty(); }
+
+    @Override
+    public int tamanho() { return arvore.size(); }
+
+    @Override
+    public int fatia(Processo p, int quantum) {
+        long latencia = latenciaAlvoMs > 0 ? latenciaAlvoMs : 6L * quantum;
+        long granularidade = granularidadeMinMs > 0 ? granularidadeMinMs : Math.max(1L, quantum * 3L / 4);
+        int executando = arvore.size() + 1;
+        long periodo = Math.max(latencia, executando * granularidade);
+        int pesoP = peso(p);
+        long fatia = periodo * pesoP / (pesoTotal + pesoP);
+        return (int) Math.max(granularidade, fatia);
+    }
+
+    @Override
+    public void aoFimDaFatia(Processo p, int executadoMs, long instanteMs) {
+        if (p.getEstado() == Processo.Estado.FINALIZADO) {
+            vruntime.remove(p);
+            return;
+        }
+        // vruntime em µs ponderados: executado × peso(nice 0) / peso
+        long delta = (long) executadoMs * 1000L * PESO_NICE_0 / peso(p);
+        vruntime.merge(p, delta, Long::sum);
+    }
+}
@@ -0,0 +1,25 @@
+package simulador;
+
+import java.util.ArrayDeque;
+
+/**
+ * Fila FIFO do Round Robin: o processo preemptado volta para o fim da fila.
+ */
+class FilaCircular implements FilaProntos {
+    private final ArrayDeque<Processo> fila = new ArrayDeque<>();
+
+    @Override
+    public void adicionar(Processo p) { fila.addLast(p); }
+
+    @Override
+    public Processo remover() { return fila.pollFirst(); }
+
+    @Override
+    public boolean estaVazia() { return fila.isEmpty(); }
+
+    @Override
+    public int tamanho() { return fila.size(); }
+
+    @Override
+    public int fatia(Processo p, int quantum) { return quantum; }
+}
@@ -0,0 +1,49 @@
+package simulador;
+
+/**
+ * Fila de prontos do SimuladorCompacto: guarda linhas da TabelaProcessos
+ * (int) em vez de objetos Processo. Mesma ordem de despacho e mesma fatia da
+ * FilaProntos do algoritmo correspondente.
+ */
+interface FilaIndices {
+
+    void adicionar(int processo);
+
+    /**
+     * Função do método: Remove a próxima linha a ser despachada.
+     * Entrada: Nenhuma
+     * Saída: Índice do processo (ou -1 se vazia)
+     */
+    int remover();
+
+    boolean estaVazia();
+
+    int tamanho();
+
+    /**
+     * Função do método: Calcula a fatia concedida ao processo despachado.
+     * Entrada: linha do processo, quantum configurado
+     * Saída: Fatia em ms
+     */
+    int fatia(int processo, int quantum);
+
+    /**
+     * Função do método: Cria a fila de índices do algoritmo.
+     * Algoritmos com estado por processo (MLFQ, CFS, LOTERIA, STRIDE) ainda não
+     * têm versão por índices.
+     * Entrada: Algoritmo, tabela de processos
+     * Saída: Fila de índices
+     */
+    static FilaIndices para(Escalonador.Algoritmo algoritmo, TabelaProcessos tabela) {
+        return switch (algoritmo) {
+            case ROUND_ROBIN -> new FilaIndicesCircular();
+            case PRIORIDADE -> FilaIndicesOrdenada.porPrioridade(tabela, false);
+            case PRIORIDADE_PREEMPTIVA -> FilaIndicesOrdenada.porPrioridade(tabela, true);
+            case SJF -> FilaIndicesOrdenada.porMenorTrabalho(tabela, false);
+            case SRTF -> FilaIndicesOrdenada.porMenorTrabalho(tabela, true);
+            default -> throw new IllegalArgumentException(
+                    "Algoritmo sem versão compacta: " + algoritmo
+                            + " (suportados: ROUND_ROBIN, PRIORIDADE, PRIORIDADE_PREEMPTIVA, SJF, SRTF)");
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package simulador;
+
+/**
+ * Fila FIFO do Round Robin sobre um buffer circular de int que cresce por duplicação.
+ */
+class FilaIndicesCircular implements FilaIndices {
+    private int[] fila = new int[1024];
+    private int inicio, tamanho;
+
+    @Override
+    public void adicionar(int processo) {
+        if (tamanho == fila.length) {
+            int[] novo = new int[fila.length << 1];
+            int ate = fila.length - inicio;
+            System.arraycopy(fila, inicio, novo, 0, ate);
+            System.arraycopy(fila, 0, novo, ate, inicio);
+            fila = novo;
+            inicio = 0;
+        }
+        fila[(inicio + tamanho++) & (fila.length - 1)] = processo;
+    }
+
+    @Override
+    public int remover() {
+        if (tamanho == 0) return -1;
+        int processo = fila[inicio];
+        inicio = (inicio + 1) & (fila.length - 1);
+        tamanho--;
+        return processo;
+    }
+
+    @Override
+    public boolean estaVazia() { return tamanho == 0; }
+
+    @Override
+    public int tamanho() { return tamanho; }
+
+    @Override
+    public int fatia(int processo, int quantum) { return quantum; }
+}
@@ -0,0 +1,123 @@
+package simulador;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap binário de linhas da tabela com as chaves em vetores paralelos:
+ * (chave, desempate, ordem de inserção). Cobre Prioridade (chave = -prioridade,
+ * desempate = chegada) e SJF/SRTF (chave = burst ou tempo restante). Como o
+ * processo sempre sai do heap antes de executar, não há decrease-key: ao voltar
+ * ele é reinserido com a chave nova.
+ */
+class FilaIndicesOrdenada implements FilaIndices {
+    private final TabelaProcessos tabela;
+    private final boolean porPrioridade;
+    private final boolean preemptiva;
+
+    private int[] processos = new int[1024];
+    private long[] chaves = new long[1024];
+    private long[] desempates = new long[1024];
+    private long[] ordens = new long[1024];
+    private int tamanho;
+    private long proximaOrdem;
+
+    private FilaIndicesOrdenada(TabelaProcessos tabela, boolean porPrioridade, boolean preemptiva) {
+        this.tabela = tabela;
+        this.porPrioridade = porPrioridade;
+        this.preemptiva = preemptiva;
+    }
+
+    static FilaIndicesOrdenada porPrioridade(TabelaProcessos tabela, boolean preemptiva) {
+        return new FilaIndicesOrdenada(tabela, true, preemptiva);
+    }
+
+    static FilaIndicesOrdenada porMenorTrabalho(TabelaProcessos tabela, boolean preemptiva) {
+        return new FilaIndicesOrdenada(tabela, false, preemptiva);
+    }
+
+    @Override
+    public void adicionar(int processo) {
+        if (tamanho == processos.length) {
+            int novo = tamanho << 1;
+            processos = Arrays.copyOf(processos, novo);
+            chaves = Arrays.copyOf(chaves, novo);
+            desempates = Arrays.copyOf(desempates, novo);
+            ordens = Arrays.copyOf(ordens, novo);
+        }
+        int i = tamanho++;
+        processos[i] = processo;
+        if (porPrioridade) {
+            chaves[i] = -tabela.prioridade(processo);
+            desempates[i] = tabela.instanteChegadaMs(processo);
+        } else {
+            chaves[i] = preemptiva ? tabela.restante(processo) : tabela.tempoExecucao(processo);
+            desempates[i] = 0L;
+        }
+        ordens[i] = proximaOrdem++;
+        subir(i);
+    }
+
+    @Override
+    public int remover() {
+        if (tamanho == 0) return -1;
+        int min = processos[0];
+        tamanho--;
+        if (tamanho > 0) {
+            mover(tamanho, 0);
+            descer(0);
+        }
+        return min;
+    }
+
+    @Override
+    public boolean estaVazia() { return tamanho == 0; }
+
+    @Override
+    public int tamanho() { return tamanho; }
+
+    @Override
+    public int fatia(int processo, int quantum) {
+        // não preemptivos executam até terminar; preemptivos recebem um quantum
+        return preemptiva ? quantum : tabela.restante(processo);
+    }
+
+    private boolean menor(int i, int j) {
+        if (chaves[i] != chaves[j]) return chaves[i] < chaves[j];
+        if (desempates[i] != desempates[j]) return desempates[i] < desempates[j];
+        return ordens[i] < ordens[j];
+    }
+
+    private void subir(int i) {
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (!menor(i, pai)) break;
+            trocar(i, pai);
+            i = pai;
+        }
+    }
+
+    private void descer(int i) {
+        while (true) {
+            int esq = 2 * i + 1, dir = esq + 1, menor = i;
+            if (esq < tamanho && menor(esq, menor)) menor = esq;
+            if (dir < tamanho && menor(dir, menor)) menor = dir;
+            if (menor == i) return;
+            trocar(i, menor);
+            i = menor;
+        }
+    }
+
+    private void trocar(int i, int j) {
+        int p = processos[i]; processos[i] = processos[j]; processos[j] = p;
+        long c = chaves[i]; chaves[i] = chaves[j]; chaves[j] = c;
+        long d = desempates[i]; desempates[i] = desempates[j]; desempates[j] = d;
+        long o = ordens[i]; ordens[i] = ordens[j]; ordens[j] = o;
+    }
+
+    private void mover(int de, int para) {
+        processos[para] = processos[de];
+        chaves[para] = chaves[de];
+        desempates[para] = desempates[de];
+        ordens[para] = ordens[de];
+    }
+}
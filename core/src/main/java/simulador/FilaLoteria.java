@@ -0,0 +1,63 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Escalonamento por loteria: cada processo recebe bilhetes proporcionais à
+ * prioridade e, a cada decisão, um bilhete é sorteado. O gerador é semeado,
+ * então a mesma carga e semente reproduzem a mesma sequência de sorteios.
+ */
+class FilaLoteria implements FilaProntos {
+    static final int BILHETES_POR_PRIORIDADE = 100;
+    static final long SEMENTE_PADRAO = 42L;
+
+    private final List<Processo> participantes = new ArrayList<>();
+    private final Random sorteio;
+    private long totalBilhetes = 0;
+
+    FilaLoteria(long semente) {
+        this.sorteio = new Random(semente);
+    }
+
+    /**
+     * Função do método: Calcula os bilhetes de um processo a partir da prioridade.
+     * Entrada: Processo
+     * Saída: Número de bilhetes
+     */
+    static int bilhetes(Processo p) {
+        return Math.max(1, p.getPrioridade()) * BILHETES_POR_PRIORIDADE;
+    }
+
+    @Override
+    public void adicionar(Processo p) {
+        participantes.add(p);
+        totalBilhetes += bilhetes(p);
+    }
+
+    @Override
+    public Processo remover() {
+        if (participantes.isEmpty()) return null;
+        long sorteado = (long) (sorteio.nextDouble() * totalBilhetes);
+        int i = 0;
+        for (long acumulado = bilhetes(participantes.get(0)); acumulado <= sorteado; ) {
+            acumulado += bilhetes(participantes.get(++i));
+        }
+        // remoção O(1): o último ocupa a posição do vencedor
+        Processo vencedor = participantes.get(i);
+        Processo ultimo = participantes.remove(participantes.size() - 1);
+        if (i < participantes.size()) participantes.set(i, ultimo);
+        totalBilhetes -= bilhetes(vencedor);
+        return vencedor;
+    }
+
+    @Override
+    public boolean estaVazia() { return participantes.isEmpty(); }
+
+    @Override
+    public int tamanho() { return participantes.size(); }
+
+    @Override
+    public int fatia(Processo p, int quantum) { return quantum; }
+}
@@ -0,0 +1,41 @@
+package simulador;
+
+/**
+ * Shortest-Job-First (não preemptivo, chave = burst total) e
+ * Shortest-Remaining-Time-First (preemptivo por quantum, chave = tempo restante).
+ * O processo em execução fica fora do heap; ao fim da fatia ele volta com o
+ * tempo restante já reduzido, então cada operação é uma inserção ou remoção
+ * em O(log n), sem reordenar a fila.
+ */
+class FilaMenorTrabalho implements FilaProntos {
+    private final HeapProcessos heap = new HeapProcessos();
+    private final boolean preemptiva;
+
+    FilaMenorTrabalho(boolean preemptiva) {
+        this.preemptiva = preemptiva;
+    }
+
+    @Override
+    public void adicionar(Processo p) {
+        long chave = preemptiva ? restante(p) : p.getTempoExecucao();
+        heap.inserir(p, chave);
+    }
+
+    @Override
+    public Processo remover() { return heap.removerMinimo(); }
+
+    @Override
+    public boolean estaVazia() { return heap.tamanho() == 0; }
+
+    @Override
+    public int tamanho() { return heap.tamanho(); }
+
+    @Override
+    public int fatia(Processo p, int quantum) {
+        return preemptiva ? quantum : restante(p);
+    }
+
+    private static int restante(Processo p) {
+        return p.getTempoExecucao() - p.getTempoExecutado();
+    }
+}
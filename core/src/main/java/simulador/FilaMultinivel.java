@@ -0,0 +1,124 @@
+package simulador;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multilevel Feedback Queue. O nível 0 tem a maior prioridade e o menor quantum;
+ * cada nível abaixo dobra o quantum (ou usa os quanta informados). Um processo desce
+ * de nível quando esgota a cota de CPU do nível atual — só a parcela CPU-bound das
+ * fatias conta, então processos I/O-bound (cpuIntensidade baixa) permanecem mais
+ * tempo nos níveis altos. Periodicamente todos voltam ao nível 0 (boost), evitando
+ * inanição dos processos rebaixados.
+ */
+class FilaMultinivel implements FilaProntos {
+    private static final int NIVEIS_PADRAO = 3;
+    private static final int BOOST_PADRAO_QUANTA = 20;
+
+    private final List<ArrayDeque<Processo>> filas;
+    private final int[] quantaFixos;        // null = quantum base × 2^nível
+    private final long periodoBoostMs;      // <= 0 = BOOST_PADRAO_QUANTA × quantum base
+    private final Map<Processo, Integer> nivel = new HashMap<>();
+    private final Map<Processo, Long> cpuNoNivelMs = new HashMap<>();
+    private int quantumBase = 1;
+    private long ultimoBoostMs = 0;
+    private int tamanho = 0;
+
+    FilaMultinivel() {
+        this(NIVEIS_PADRAO, 0L);
+    }
+
+    // Níveis padrão com outro período de boost
+    FilaMultinivel(long periodoBoostMs) {
+        this(NIVEIS_PADRAO, periodoBoostMs);
+    }
+
+    FilaMultinivel(int niveis, long periodoBoostMs) {
+        this(null, Math.max(1, niveis), periodoBoostMs);
+    }
+
+    FilaMultinivel(int[] quantaPorNivel, long periodoBoostMs) {
+        this(quantaPorNivel.clone(), quantaPorNivel.length, periodoBoostMs);
+    }
+
+    private FilaMultinivel(int[] quantaFixos, int niveis, long periodoBoostMs) {
+        this.quantaFixos = quantaFixos;
+        this.periodoBoostMs = periodoBoostMs;
+        this.filas = new ArrayList<>(niveis);
+        for (int i = 0; i < niveis; i++) filas.add(new ArrayDeque<>());
+    }
+
+    @Override
+    public void adicionar(Processo p) {
+        filas.get(nivel.getOrDefault(p, 0)).addLast(p);
+        tamanho++;
+    }
+
+    @Override
+    public Processo remover() {
+        for (ArrayDeque<Processo> fila : filas) {
+            if (!fila.isEmpty()) {
+                tamanho--;
+                return fila.pollFirst();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean estaVazia() { return tamanho == 0; }
+
+    @Override
+    public int tamanho() { return tamanho; }
+
+    @Override
+    public int fatia(Processo p, int quantum) {
+        quantumBase = Math.max(1, quantum);
+        return quantumDoNivel(nivel.getOrDefault(p, 0));
+    }
+
+    @Override
+    public void aoFimDaFatia(Processo p, int executadoMs, long instanteMs) {
+        if (p.getEstado() == Processo.Estado.FINALIZADO) {
+            nivel.remove(p);
+            cpuNoNivelMs.remove(p);
+        } else {
+            int n = nivel.getOrDefault(p, 0);
+            long cpu = cpuNoNivelMs.getOrDefault(p, 0L) + p.getParcelaCpuMs(executadoMs);
+            if (cpu >= quantumDoNivel(n) && n < filas.size() - 1) {
+                nivel.put(p, n + 1);
+                cpuNoNivelMs.remove(p);
+            } else {
+                cpuNoNivelMs.put(p, cpu);
+            }
+        }
+
+        long periodo = periodoBoostMs > 0 ? periodoBoostMs : (long) BOOST_PADRAO_QUANTA * quantumBase;
+        if (instanteMs - ultimoBoostMs >= periodo) {
+            ultimoBoostMs = instanteMs;
+            boost();
+        }
+    }
+
+    /**
+     * Função do método: Devolve todos os processos ao nível 0 e zera as cotas de CPU.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (atualiza filas)
+     */
+    private void boost() {
+        for (int i = 1; i < filas.size(); i++) {
+            filas.get(0).addAll(filas.get(i));
+            filas.get(i).clear();
+        }
+        nivel.clear();
+        cpuNoNivelMs.clear();
+    }
+
+    private int quantumDoNivel(int n) {
+        if (quantaFixos != null) return quantaFixos[n];
+        return quantumBase << Math.min(n, 20);
+    }
+}
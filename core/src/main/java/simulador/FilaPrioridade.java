@@ -0,0 +1,50 @@
+package simulador;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Fila por prioridade sobre um heap binário (O(log n) por inserção e remoção):
+ * maior prioridade primeiro, empate pela chegada e depois pela ordem de inserção.
+ * Na versão não preemptiva o processo escolhido executa até terminar; na preemptiva
+ * recebe um quantum e volta ao heap, podendo ser ultrapassado por quem chegou com
+ * prioridade maior.
+ */
+class FilaPrioridade implements FilaProntos {
+    private record Entrada(Processo processo, long ordem) {}
+
+    private final PriorityQueue<Entrada> heap = new PriorityQueue<>(
+            Comparator.comparingInt((Entrada e) -> e.processo().getPrioridade()).reversed()
+                    .thenComparingLong(e -> e.processo().getInstanteChegadaMs())
+                    .thenComparingLong(Entrada::ordem));
+    private final boolean preemptiva;
+    private long proximaOrdem = 0;
+
+    FilaPrioridade() {
+        this(false);
+    }
+
+    FilaPrioridade(boolean preemptiva) {
+        this.preemptiva = preemptiva;
+    }
+
+    @Override
+    public void adicionar(Processo p) { heap.add(new Entrada(p, proximaOrdem++)); }
+
+    @Override
+    public Processo remover() {
+        Entrada e = heap.poll();
+        return e == null ? null : e.processo();
+    }
+
+    @Override
+    public boolean estaVazia() { return heap.isEmpty(); }
+
+    @Override
+    public int tamanho() { return heap.size(); }
+
+    @Override
+    public int fatia(Processo p, int quantum) {
+        return preemptiva ? quantum : p.getTempoExecucao() - p.getTempoExecutado();
+    }
+}
@@ -0,0 +1,79 @@
+package simulador;
+
+/**
+ * Fila de prontos do escalonador. Cada algoritmo define a ordem de despacho
+ * e o tamanho da fatia concedida ao processo escolhido.
+ */
+public interface FilaProntos {
+
+    /**
+     * Função do método: Insere um processo pronto na fila.
+     * Entrada: Processo
+     * Saída: Nenhuma (atualiza fila)
+     */
+    void adicionar(Processo p);
+
+    /**
+     * Função do método: Remove o próximo processo a ser despachado.
+     * Entrada: Nenhuma
+     * Saída: Processo escolhido (ou null se vazia)
+     */
+    Processo remover();
+
+    /**
+     * Função do método: Informa se não há processos prontos.
+     * Entrada: Nenhuma
+     * Saída: true se a fila estiver vazia
+     */
+    boolean estaVazia();
+
+    /**
+     * Função do método: Retorna o número de processos prontos.
+     * Entrada: Nenhuma
+     * Saída: Tamanho da fila
+     */
+    int tamanho();
+
+    /**
+     * Função do método: Calcula a fatia concedida ao processo despachado.
+     * Entrada: Processo, quantum configurado
+     * Saída: Fatia em ms
+     */
+    int fatia(Processo p, int quantum);
+
+    /**
+     * Função do método: Informa à fila o fim de uma fatia, antes de o processo voltar
+     * a ela (ou sair, se finalizou). Filas com estado por processo atualizam-se aqui.
+     * Entrada: Processo, tempo executado na fatia (ms), instante desde o início (ms)
+     * Saída: Nenhuma
+     */
+    default void aoFimDaFatia(Processo p, int executadoMs, long instanteMs) { }
+
+    /**
+     * Função do método: Cria a fila de prontos correspondente ao algoritmo, com os parâmetros padrão.
+     * Entrada: Algoritmo
+     * Saída: Fila de prontos
+     */
+    static FilaProntos para(Escalonador.Algoritmo algoritmo) {
+        return para(algoritmo, ParametrosFila.PADRAO);
+    }
+
+    /**
+     * Função do método: Cria a fila de prontos do algoritmo com os ajustes informados.
+     * Entrada: Algoritmo, parâmetros das filas
+     * Saída: Fila de prontos
+     */
+    static FilaProntos para(Escalonador.Algoritmo algoritmo, ParametrosFila parametros) {
+        return switch (algoritmo) {
+            case PRIORIDADE -> new FilaPrioridade();
+            case PRIORIDADE_PREEMPTIVA -> new FilaPrioridade(true);
+            case ROUND_ROBIN -> new FilaCircular();
+            case SJF -> new FilaMenorTrabalho(false);
+            case SRTF -> new FilaMenorTrabalho(true);
+            case MLFQ -> parametros.criarMultinivel();
+            case CFS -> new FilaCfs(parametros.cfsLatenciaAlvoMs(), parametros.cfsGranularidadeMinMs());
+            case LOTERIA -> new FilaLoteria(parametros.loteriaSemente());
+            case STRIDE -> new FilaStride();
+        };
+    }
+}
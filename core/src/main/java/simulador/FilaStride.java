@@ -0,0 +1,59 @@
+package simulador;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stride scheduling: versão determinística da loteria. Cada processo tem um
+ * passo (stride) inversamente proporcional aos bilhetes e avança seu "pass" a cada
+ * fatia; executa sempre o menor pass, retirado de um min-heap em O(log n).
+ */
+class FilaStride implements FilaProntos {
+    private static final long STRIDE_1 = 1L << 20;
+
+    private final HeapProcessos heap = new HeapProcessos();
+    private final Map<Processo, Long> pass = new HashMap<>();
+    private long passGlobal = 0; // menor pass já despachado; referência para quem chega
+
+    /**
+     * Função do método: Calcula o passo do processo (STRIDE_1 / bilhetes).
+     * Entrada: Processo
+     * Saída: Stride
+     */
+    static long stride(Processo p) {
+        return STRIDE_1 / FilaLoteria.bilhetes(p);
+    }
+
+    @Override
+    public void adicionar(Processo p) {
+        long v = Math.max(pass.getOrDefault(p, passGlobal), passGlobal);
+        pass.put(p, v);
+        heap.inserir(p, v);
+    }
+
+    @Override
+    public Processo remover() {
+        Processo p = heap.removerMinimo();
+        if (p != null) passGlobal = Math.max(passGlobal, pass.get(p));
+        return p;
+    }
+
+    @Override
+    public boolean estaVazia() { return heap.tamanho() == 0; }
+
+    @Override
+    public int tamanho() { return heap.tamanho(); }
+
+    @Override
+    public int fatia(Processo p, int quantum) { return quantum; }
+
+    @Override
+    public void aoFimDaFatia(Processo p, int executadoMs, long instanteMs) {
+        if (p.getEstado() == Processo.Estado.FINALIZADO) {
+            pass.remove(p);
+            return;
+        }
+        // avança proporcionalmente ao tempo usado (fatias parciais contam menos)
+        pass.merge(p, stride(p) * executadoMs, Long::sum);
+    }
+}
@@ -0,0 +1,27 @@
+package simulador;
+
+/**
+ * Origem sequencial de processos para o SimuladorCompacto, lida sob demanda
+ * (ex.: um trace em disco). Funciona como um cursor: proximo() avança e os
+ * getters devolvem os campos do registro atual, sem criar objetos por processo.
+ * Os registros vêm em ordem não decrescente de chegada.
+ */
+public interface FonteProcessos {
+
+    /**
+     * Função do método: Avança para o próximo registro.
+     * Entrada: Nenhuma
+     * Saída: true se há um registro atual; false no fim da fonte
+     */
+    boolean proximo();
+
+    int id();
+
+    long chegadaMs();
+
+    int burstMs();
+
+    int prioridade();
+
+    double cpuIntensidade();
+}
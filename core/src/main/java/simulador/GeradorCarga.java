@@ -0,0 +1,98 @@
+package simulador;
+
+import java.util.SplittableRandom;
+
+/**
+ * Cursor que sorteia os processos de um ModeloCarga um por vez, sem guardar
+ * a carga: serve de FonteProcessos para o SimuladorCompacto (memória
+ * proporcional aos processos ativos) e de base para ModeloCarga.processos().
+ *
+ * As chegadas são acumuladas em microssegundos inteiros, sem erro de
+ * arredondamento acumulado ao longo de milhões de intervalos.
+ */
+public final class GeradorCarga implements FonteProcessos {
+
+    private final ModeloCarga modelo;
+    private final int total;
+    private final SplittableRandom gerador;
+    private int gerados;
+    private long chegadaUs;
+
+    // Registro atual
+    private int id;
+    private int prioridade;
+    private int burstMs;
+    private double intensidade;
+
+    GeradorCarga(ModeloCarga modelo, int total, long seed) {
+        this.modelo = modelo;
+        this.total = Math.max(0, total);
+        this.gerador = new SplittableRandom(seed);
+    }
+
+    @Override
+    public boolean proximo() {
+        if (gerados >= total) return false;
+        long intervaloUs = sortear(modelo, gerador);
+        if (gerados > 0) chegadaUs += intervaloUs; // o primeiro processo chega no instante 0
+        id = ++gerados;
+        return true;
+    }
+
+    /**
+     * Função do método: Sorteia um processo, sempre na mesma ordem de sorteios.
+     * Entrada: carga, gerador
+     * Saída: Intervalo até a chegada (µs); prioridade, burst e intensidade vão para o registro atual
+     */
+    private long sortear(ModeloCarga m, SplittableRandom rng) {
+        double uBurst;
+        if (m.correlacao() == 0.0) {
+            uBurst = rng.nextDouble();
+            prioridade = rng.nextInt(10) + 1;
+        } else {
+            // cópula gaussiana: o uniforme da prioridade compartilha parte da normal do burst
+            double z = rng.nextGaussian();
+            double zPrioridade = m.correlacao() * z + Math.sqrt(1.0 - m.correlacao() * m.correlacao()) * rng.nextGaussian();
+            uBurst = normalAcumulada(z);
+            prioridade = 1 + Math.min(9, (int) (normalAcumulada(zPrioridade) * 10));
+        }
+        burstMs = (int) Math.max(1L, Math.min(Integer.MAX_VALUE, Math.round(m.burstMs().quantil(limitar(uBurst)))));
+        intensidade = Math.max(0.0, Math.min(1.0, m.cpuIntensidade().quantil(rng.nextDouble())));
+        return Math.max(0L, Math.round(m.intervaloMs().quantil(rng.nextDouble()) * 1000.0));
+    }
+
+    // Mantém u em [0, 1) mesmo com o arredondamento da aproximação da normal
+    private static double limitar(double u) {
+        return Math.max(0.0, Math.min(u, Math.nextDown(1.0)));
+    }
+
+    // Função de distribuição da normal padrão (Abramowitz–Stegun 26.2.17, erro < 7.5e-8)
+    private static double normalAcumulada(double z) {
+        double t = 1.0 / (1.0 + 0.2316419 * Math.abs(z));
+        double densidade = 0.3989422804014327 * Math.exp(-z * z / 2);
+        double cauda = densidade * t * (0.319381530 + t * (-0.356563782 + t * (1.781477937
+                + t * (-1.821255978 + t * 1.330274429))));
+        return z > 0 ? 1.0 - cauda : cauda;
+    }
+
+    static long paraMs(long us) {
+        return (us + 500) / 1000;
+    }
+
+    @Override
+    public int id() { return id; }
+
+    @Override
+    public long chegadaMs() { return paraMs(chegadaUs); }
+
+    @Override
+    public int burstMs() { return burstMs; }
+
+    @Override
+    public int prioridade() { return prioridade; }
+
+    @Override
+    public double cpuIntensidade() { return intensidade; }
+
+    public int getGerados() { return gerados; }
+}
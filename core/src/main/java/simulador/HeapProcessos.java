@@ -0,0 +1,91 @@
+package simulador;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap binário de processos em vetores paralelos (processo, chave, ordem).
+ * Empates na chave são resolvidos pela ordem de inserção. Não há atualização
+ * de chave: um processo sai do heap ao ser despachado e volta, com a chave
+ * recalculada, quando termina a fatia.
+ */
+class HeapProcessos {
+    private Processo[] processos = new Processo[16];
+    private long[] chaves = new long[16];
+    private long[] ordens = new long[16];
+    private int tamanho = 0;
+    private long proximaOrdem = 0;
+
+    /**
+     * Função do método: Insere o processo com a chave informada.
+     * Entrada: Processo, chave
+     * Saída: Nenhuma (atualiza heap)
+     */
+    void inserir(Processo p, long chave) {
+        if (tamanho == processos.length) {
+            int novo = tamanho * 2;
+            processos = Arrays.copyOf(processos, novo);
+            chaves = Arrays.copyOf(chaves, novo);
+            ordens = Arrays.copyOf(ordens, novo);
+        }
+        processos[tamanho] = p;
+        chaves[tamanho] = chave;
+        ordens[tamanho] = proximaOrdem++;
+        subir(tamanho++);
+    }
+
+    /**
+     * Função do método: Remove o processo de menor chave.
+     * Entrada: Nenhuma
+     * Saída: Processo removido (ou null se vazio)
+     */
+    Processo removerMinimo() {
+        if (tamanho == 0) return null;
+        Processo min = processos[0];
+        tamanho--;
+        if (tamanho > 0) {
+            mover(tamanho, 0);
+            descer(0);
+        }
+        processos[tamanho] = null;
+        return min;
+    }
+
+    int tamanho() { return tamanho; }
+
+    private boolean menor(int i, int j) {
+        if (chaves[i] != chaves[j]) return chaves[i] < chaves[j];
+        return ordens[i] < ordens[j];
+    }
+
+    private void subir(int i) {
+        while (i > 0) {
+            int pai = (i - 1) / 2;
+            if (!menor(i, pai)) break;
+            trocar(i, pai);
+            i = pai;
+        }
+    }
+
+    private void descer(int i) {
+        while (true) {
+            int esq = 2 * i + 1, dir = esq + 1, menor = i;
+            if (esq < tamanho && menor(esq, menor)) menor = esq;
+            if (dir < tamanho && menor(dir, menor)) menor = dir;
+            if (menor == i) return;
+            trocar(i, menor);
+            i = menor;
+        }
+    }
+
+    private void trocar(int i, int j) {
+        Processo p = processos[i]; processos[i] = processos[j]; processos[j] = p;
+        long c = chaves[i]; chaves[i] = chaves[j]; chaves[j] = c;
+        long o = ordens[i]; ordens[i] = ordens[j]; ordens[j] = o;
+    }
+
+    private void mover(int de, int para) {
+        processos[para] = processos[de];
+        chaves[para] = chaves[de];
+        ordens[para] = ordens[de];
+    }
+}
@@ -0,0 +1,117 @@
+package simulador;
+
+/**
+ * Histograma log-linear de tamanho fixo (no estilo HDR) para tempos em ms.
+ * Valores abaixo de 256 ficam em baldes exatos; acima disso cada potência de 2
+ * é dividida em 128 baldes, o que limita o erro relativo dos percentis a menos
+ * de 1% para qualquer valor até Long.MAX_VALUE, com ~57 KB por histograma.
+ *
+ * Valores negativos são registrados como 0, de modo que média (soma exata),
+ * desvio padrão (Welford), mínimo, máximo e percentis descrevem os mesmos dados.
+ * Não é thread-safe: cada histograma tem um único escritor.
+ */
+public final class HistogramaLatencia {
+
+    private static final int BITS_SUB = 8;
+    private static final int SUB = 1 << BITS_SUB;        // baldes exatos iniciais
+    private static final int METADE = SUB >> 1;          // baldes por potência de 2 depois deles
+    private static final int TAMANHO = SUB + (63 - BITS_SUB) * METADE;
+
+    private final long[] contagens = new long[TAMANHO];
+    private long total;
+    private long minimo = Long.MAX_VALUE;
+    private long maximo = Long.MIN_VALUE;
+    private long soma;
+    private double mediaWelford;
+    private double somaQuadrados; // soma dos desvios ao quadrado (Welford)
+
+    /**
+     * Função do método: Registra um valor (negativos contam como 0).
+     * Entrada: valor em ms
+     * Saída: Nenhuma
+     */
+    public void registrar(long valor) {
+        valor = Math.max(0L, valor);
+        soma += valor;
+        contagens[indice(valor)]++;
+        total++;
+        if (valor < minimo) minimo = valor;
+        if (valor > maximo) maximo = valor;
+        double delta = valor - mediaWelford;
+        mediaWelford += delta / total;
+        somaQuadrados += delta * (valor - mediaWelford);
+    }
+
+    /**
+     * Função do método: Soma outro histograma a este (ex.: resultados de vários núcleos).
+     * Entrada: Histograma
+     * Saída: Nenhuma
+     */
+    public void juntar(HistogramaLatencia outro) {
+        if (outro.total == 0) return;
+        for (int i = 0; i < TAMANHO; i++) contagens[i] += outro.contagens[i];
+        long n = total + outro.total;
+        double delta = outro.mediaWelford - mediaWelford;
+        somaQuadrados += outro.somaQuadrados + delta * delta * ((double) total * outro.total / n);
+        mediaWelford += delta * outro.total / n;
+        total = n;
+        soma += outro.soma;
+        minimo = Math.min(minimo, outro.minimo);
+        maximo = Math.max(maximo, outro.maximo);
+    }
+
+    /**
+     * Função do método: Estima o percentil informado.
+     * Entrada: percentil entre 0 e 100 (ex.: 99.9)
+     * Saída: Valor em ms (0 se vazio)
+     */
+    public long getPercentil(double percentil) {
+        if (total == 0) return 0L;
+        long alvo = Math.max(1L, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentil)) / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < TAMANHO; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) {
+                return Math.max(minimo, Math.min(maximo, valorMedio(i)));
+            }
+        }
+        return maximo;
+    }
+
+    public long getTotal() { return total; }
+
+    public long getMinimo() { return total == 0 ? 0L : minimo; }
+
+    public long getMaximo() { return total == 0 ? 0L : maximo; }
+
+    // Mesmo resultado de LongStream.average(): soma exata dividida pelo total
+    public double getMedia() { return total == 0 ? 0.0 : (double) soma / total; }
+
+    /**
+     * Função do método: Calcula o desvio padrão populacional dos valores registrados.
+     * Entrada: Nenhuma
+     * Saída: Desvio padrão em ms
+     */
+    public double getDesvioPadrao() {
+        return total == 0 ? 0.0 : Math.sqrt(somaQuadrados / total);
+    }
+
+    // Balde do valor: exato abaixo de SUB; acima, expoente + os BITS_SUB-1 bits seguintes
+    private static int indice(long valor) {
+        if (valor < SUB) return (int) valor;
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);   // >= BITS_SUB
+        int deslocamento = expoente - (BITS_SUB - 1);
+        int sub = (int) (valor >>> deslocamento) - METADE;        // 0..METADE-1
+        return SUB + (expoente - BITS_SUB) * METADE + sub;
+    }
+
+    // Ponto médio da faixa de valores coberta pelo balde
+    private static long valorMedio(int indice) {
+        if (indice < SUB) return indice;
+        int grupo = (indice - SUB) / METADE;
+        int sub = (indice - SUB) % METADE;
+        int deslocamento = grupo + 1;
+        long inferior = (long) (METADE + sub) << deslocamento;
+        return inferior + ((1L << deslocamento) >> 1);
+    }
+}
@@ -0,0 +1,405 @@
+package simulador;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Histórico persistente de execuções, gravado só por acréscimo em colunas:
+ * cada métrica é um arquivo de valores de tamanho fixo (little-endian) dentro
+ * do diretório, e a execução i ocupa a posição i de cada coluna. Ler uma
+ * métrica de 10.000 execuções é mapear um arquivo de 80 KB, sem tocar nas
+ * demais colunas nem desserializar registros.
+ *
+ * Colunas por execução: nome do cenário (nome.idx + nome.utf8) e uma .f64 por
+ * Metrica. Colunas por processo concluído: proc_id.i32, proc_retorno.i64,
+ * proc_espera.i64 e proc_resposta.i64; proc_fim.i64 guarda onde terminam os
+ * processos de cada execução e é gravada por último, servindo de confirmação:
+ * as demais colunas vão para o disco (force) antes dela, e ao abrir o que
+ * passou dela (gravação interrompida) é descartado.
+ *
+ * Um único escritor por diretório, garantido por um lock em historico.lock
+ * mantido enquanto o histórico está aberto: abrir o mesmo diretório em outro
+ * processo falha com IOException. Leitores no mesmo processo veem cada
+ * execução assim que registrar() retorna. Uma varredura deve usar
+ * registrarTodos(): o lote inteiro custa um force por coluna, não um por
+ * coluna e por execução.
+ */
+public final class HistoricoResultados implements AutoCloseable {
+
+    /** Métricas resumidas guardadas para cada execução (todas como double) */
+    public enum Metrica {
+        INSTANTE, TEMPO_TOTAL_MS, THROUGHPUT, RETORNO_MEDIO_MS, ESPERA_MEDIA_MS, RESPOSTA_MEDIA_MS,
+        UTILIZACAO_CPU, TROCAS_CONTEXTO, OVERHEAD_MS, OCIOSO_MS,
+        RETORNO_P99_MS, RETORNO_MAX_MS, ESPERA_P99_MS, ESPERA_MAX_MS, RESPOSTA_P99_MS, RESPOSTA_MAX_MS
+    }
+
+    // Arquivo de uma coluna, com o mapeamento de leitura refeito quando ela cresce
+    private static final class Coluna {
+        final FileChannel canal;
+        final int largura;
+        MappedByteBuffer mapa;
+
+        Coluna(Path arquivo, int largura) throws IOException {
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.largura = largura;
+        }
+
+        ByteBuffer ler(long bytesNecessarios) {
+            if (mapa == null || mapa.capacity() < bytesNecessarios) {
+                try {
+                    mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, bytesNecessarios);
+                    mapa.order(ByteOrder.LITTLE_ENDIAN);
+                } catch (IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            }
+            return mapa;
+        }
+
+        void gravar(long posicao, ByteBuffer dados) throws IOException {
+            dados.flip();
+            while (dados.hasRemaining()) posicao += canal.write(dados, posicao);
+        }
+
+        void sincronizar() throws IOException {
+            canal.force(false);
+        }
+
+        void truncar(long bytes) throws IOException {
+            if (canal.size() > bytes) canal.truncate(bytes);
+            mapa = null;
+        }
+    }
+
+    private final FileChannel canalLock;
+    private final FileLock lock;
+    private final Map<Metrica, Coluna> metricas = new EnumMap<>(Metrica.class);
+    private final Coluna nomeIndice, nomeDados, procFim, procId, procRetorno, procEspera, procResposta;
+    private int execucoes;
+    private long totalProcessos;
+    private long totalBytesNomes;
+
+    private HistoricoResultados(Path diretorio) throws IOException {
+        Files.createDirectories(diretorio);
+        // o lock vem antes de tudo: reconciliar() trunca as colunas
+        canalLock = FileChannel.open(diretorio.resolve("historico.lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        FileLock obtido;
+        try {
+            obtido = canalLock.tryLock();
+        } catch (OverlappingFileLockException e) {
+            obtido = null; // já aberto por este processo
+        }
+        if (obtido == null) {
+            canalLock.close();
+            throw new IOException("Histórico em uso por outro escritor: " + diretorio);
+        }
+        lock = obtido;
+        try {
+            for (Metrica m : Metrica.values()) {
+                metricas.put(m, new Coluna(diretorio.resolve(m.name().toLowerCase(Locale.ROOT) + ".f64"), 8));
+            }
+            nomeIndice = new Coluna(diretorio.resolve("nome.idx"), 8);
+            nomeDados = new Coluna(diretorio.resolve("nome.utf8"), 1);
+            procFim = new Coluna(diretorio.resolve("proc_fim.i64"), 8);
+            procId = new Coluna(diretorio.resolve("proc_id.i32"), 4);
+            procRetorno = new Coluna(diretorio.resolve("proc_retorno.i64"), 8);
+            procEspera = new Coluna(diretorio.resolve("proc_espera.i64"), 8);
+            procResposta = new Coluna(diretorio.resolve("proc_resposta.i64"), 8);
+            reconciliar();
+        } catch (IOException | RuntimeException e) {
+            fecharColunas();
+            canalLock.close(); // libera o lock
+            throw e;
+        }
+    }
+
+    /**
+     * Função do método: Abre (ou cria) o histórico no diretório informado.
+     * Entrada: diretório das colunas
+     * Saída: Histórico pronto para leitura e acréscimo
+     */
+    public static HistoricoResultados abrir(Path diretorio) throws IOException {
+        return new HistoricoResultados(diretorio);
+    }
+
+    // Usa proc_fim como confirmação e corta o excesso das outras colunas
+    private void reconciliar() throws IOException {
+        execucoes = (int) Math.min(Integer.MAX_VALUE,
+                Math.min(procFim.canal.size(), nomeIndice.canal.size()) / 8);
+        for (Coluna c : metricas.values()) execucoes = (int) Math.min(execucoes, c.canal.size() / 8);
+
+        totalProcessos = execucoes == 0 ? 0 : procFim.ler(execucoes * 8L).getLong((execucoes - 1) * 8);
+        totalBytesNomes = execucoes == 0 ? 0 : nomeIndice.ler(execucoes * 8L).getLong((execucoes - 1) * 8);
+        for (Coluna c : metricas.values()) c.truncar(execucoes * 8L);
+        nomeIndice.truncar(execucoes * 8L);
+        procFim.truncar(execucoes * 8L);
+        nomeDados.truncar(totalBytesNomes);
+        for (Coluna c : List.of(procId, procRetorno, procEspera, procResposta)) {
+            c.truncar(totalProcessos * c.largura);
+        }
+    }
+
+    /**
+     * Função do método: Acrescenta uma execução da interface, com as métricas de cada processo concluído.
+     * Entrada: nome do cenário, avaliador, processos da execução
+     * Saída: Índice da execução no histórico
+     */
+    public int registrar(String nome, Avaliador av, List<Processo> processos) throws IOException {
+        double[] valores = valores(av.getTempoTotalSimulacaoMs(), av.getThroughput(), av.getTempoMedioDeRetorno(),
+                av.getTempoMedioDeEspera(), av.getTempoMedioDeResposta(), av.getUtilizacaoCPU(),
+                av.getTrocasDeContexto(), av.getTempoOverheadTotalMs(), av.getTempoOciosoTotalMs(),
+                av.getDistribuicaoRetorno(), av.getDistribuicaoEspera(), av.getDistribuicaoResposta());
+
+        int concluidos = 0;
+        for (Processo p : processos) if (p.getEstado() == Processo.Estado.FINALIZADO) concluidos++;
+        ByteBuffer ids = buffer(concluidos * 4);
+        ByteBuffer retornos = buffer(concluidos * 8), esperas = buffer(concluidos * 8), respostas = buffer(concluidos * 8);
+        for (Processo p : processos) {
+            if (p.getEstado() != Processo.Estado.FINALIZADO) continue;
+            ids.putInt(p.getIdProcesso());
+            retornos.putLong(p.getTempoDeRetorno());
+            esperas.putLong(p.getTempoDeEspera());
+            respostas.putLong(p.getTempoDeResposta());
+        }
+        return acrescentar(List.of(new Registro(nome, valores, concluidos, ids, retornos, esperas, respostas)));
+    }
+
+    /**
+     * Função do método: Acrescenta o resumo de um cenário de varredura (sem métricas por processo).
+     * Entrada: Resultado do cenário
+     * Saída: Índice da execução no histórico
+     */
+    public int registrar(ResultadoCenario r) throws IOException {
+        return acrescentar(List.of(registro(r)));
+    }
+
+    /**
+     * Função do método: Acrescenta os resumos de uma varredura de uma vez: as colunas são
+     * sincronizadas uma vez para o lote, e proc_fim confirma todas as execuções juntas.
+     * Entrada: Resultados dos cenários
+     * Saída: Índice da primeira execução acrescentada
+     */
+    public int registrarTodos(List<ResultadoCenario> resultados) throws IOException {
+        List<Registro> registros = new ArrayList<>(resultados.size());
+        for (ResultadoCenario r : resultados) registros.add(registro(r));
+        return acrescentar(registros);
+    }
+
+    // Uma execução pronta para gravar; os buffers por processo estão em modo de escrita
+    private record Registro(String nome, double[] valores, int numProcessos, ByteBuffer ids,
+                            ByteBuffer retornos, ByteBuffer esperas, ByteBuffer respostas) { }
+
+    private static Registro registro(ResultadoCenario r) {
+        double[] valores = new double[Metrica.values().length];
+        valores[Metrica.INSTANTE.ordinal()] = System.currentTimeMillis();
+        valores[Metrica.TEMPO_TOTAL_MS.ordinal()] = r.tempoTotalMs();
+        valores[Metrica.THROUGHPUT.ordinal()] = r.throughput();
+        valores[Metrica.RETORNO_MEDIO_MS.ordinal()] = r.tempoMedioRetornoMs();
+        valores[Metrica.ESPERA_MEDIA_MS.ordinal()] = r.tempoMedioEsperaMs();
+        valores[Metrica.RESPOSTA_MEDIA_MS.ordinal()] = r.tempoMedioRespostaMs();
+        valores[Metrica.UTILIZACAO_CPU.ordinal()] = r.utilizacaoCpu();
+        valores[Metrica.TROCAS_CONTEXTO.ordinal()] = r.trocasContexto();
+        valores[Metrica.OVERHEAD_MS.ordinal()] = r.overheadTotalMs();
+        valores[Metrica.OCIOSO_MS.ordinal()] = r.tempoOciosoMs();
+        valores[Metrica.RETORNO_P99_MS.ordinal()] = r.retornoP99Ms();
+        valores[Metrica.RETORNO_MAX_MS.ordinal()] = r.retornoMaxMs();
+        valores[Metrica.ESPERA_P99_MS.ordinal()] = r.esperaP99Ms();
+        valores[Metrica.ESPERA_MAX_MS.ordinal()] = r.esperaMaxMs();
+        valores[Metrica.RESPOSTA_P99_MS.ordinal()] = r.respostaP99Ms();
+        valores[Metrica.RESPOSTA_MAX_MS.ordinal()] = r.respostaMaxMs();
+        ByteBuffer vazio = buffer(0);
+        return new Registro(r.cenario().nome(), valores, 0, vazio, vazio, vazio, vazio);
+    }
+
+    private static double[] valores(double tempoTotal, double throughput, double retorno, double espera,
+                                    double resposta, double utilizacao, int trocas, long overhead, long ocioso,
+                                    HistogramaLatencia hRetorno, HistogramaLatencia hEspera,
+                                    HistogramaLatencia hResposta) {
+        return new double[] {
+                System.currentTimeMillis(), tempoTotal, throughput, retorno, espera, resposta,
+                utilizacao, trocas, overhead, ocioso,
+                hRetorno.getPercentil(99), hRetorno.getMaximo(), hEspera.getPercentil(99), hEspera.getMaximo(),
+                hResposta.getPercentil(99), hResposta.getMaximo()
+        };
+    }
+
+    private static ByteBuffer buffer(int bytes) {
+        return ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Ordem de gravação: processos, nomes e métricas do lote, sincronizados, e por último a confirmação em proc_fim
+    private int acrescentar(List<Registro> registros) throws IOException {
+        int n = registros.size();
+        if (n == 0) return execucoes;
+        long processos = totalProcessos;
+        long bytesNomes = totalBytesNomes;
+        ByteBuffer indices = buffer(n * 8), fins = buffer(n * 8);
+        ByteBuffer[] valores = new ByteBuffer[Metrica.values().length];
+        for (int m = 0; m < valores.length; m++) valores[m] = buffer(n * 8);
+        byte[][] nomes = new byte[n][];
+
+        for (int k = 0; k < n; k++) {
+            Registro r = registros.get(k);
+            procId.gravar(processos * 4, r.ids());
+            procRetorno.gravar(processos * 8, r.retornos());
+            procEspera.gravar(processos * 8, r.esperas());
+            procResposta.gravar(processos * 8, r.respostas());
+            processos += r.numProcessos();
+            fins.putLong(processos);
+
+            nomes[k] = r.nome().getBytes(StandardCharsets.UTF_8);
+            bytesNomes += nomes[k].length;
+            indices.putLong(bytesNomes);
+            for (int m = 0; m < valores.length; m++) valores[m].putDouble(r.valores()[m]);
+        }
+
+        ByteBuffer dadosNomes = buffer(Math.toIntExact(bytesNomes - totalBytesNomes));
+        for (byte[] nome : nomes) dadosNomes.put(nome);
+        nomeDados.gravar(totalBytesNomes, dadosNomes);
+        nomeIndice.gravar(execucoes * 8L, indices);
+        for (Metrica m : Metrica.values()) metricas.get(m).gravar(execucoes * 8L, valores[m.ordinal()]);
+
+        // sem isso o disco pode receber proc_fim antes dos dados que ela confirma
+        for (Coluna c : List.of(procId, procRetorno, procEspera, procResposta, nomeDados, nomeIndice)) {
+            c.sincronizar();
+        }
+        for (Coluna c : metricas.values()) c.sincronizar();
+        procFim.gravar(execucoes * 8L, fins);
+        procFim.sincronizar();
+
+        int primeira = execucoes;
+        totalProcessos = processos;
+        totalBytesNomes = bytesNomes;
+        execucoes += n;
+        return primeira;
+    }
+
+    // ---- consultas (sobre os arquivos mapeados) ----
+
+    public int tamanho() { return execucoes; }
+
+    /**
+     * Função do método: Lê uma métrica de uma execução.
+     * Entrada: métrica, índice da execução
+     * Saída: Valor gravado
+     */
+    public double valor(Metrica m, int execucao) {
+        verificar(execucao);
+        return metricas.get(m).ler(execucoes * 8L).getDouble(execucao * 8);
+    }
+
+    /**
+     * Função do método: Retorna a coluna inteira de uma métrica, sem cópia (visão do arquivo mapeado).
+     * Entrada: métrica
+     * Saída: DoubleBuffer somente leitura com uma posição por execução
+     */
+    public DoubleBuffer coluna(Metrica m) {
+        ByteBuffer mapa = metricas.get(m).ler(execucoes * 8L).duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        return mapa.limit(execucoes * 8).position(0).slice().order(ByteOrder.LITTLE_ENDIAN)
+                .asDoubleBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Função do método: Retorna o nome do cenário de uma execução.
+     * Entrada: índice da execução
+     * Saída: Nome do cenário
+     */
+    public String nome(int execucao) {
+        verificar(execucao);
+        ByteBuffer indice = nomeIndice.ler(execucoes * 8L);
+        long inicio = execucao == 0 ? 0 : indice.getLong((execucao - 1) * 8);
+        long fim = indice.getLong(execucao * 8);
+        byte[] bytes = new byte[(int) (fim - inicio)];
+        nomeDados.ler(totalBytesNomes).get((int) inicio, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Função do método: Localiza a execução mais recente de cada cenário, das últimas para as primeiras.
+     * Entrada: número máximo de cenários (0 = todos)
+     * Saída: Mapa nome → índice, do cenário mais antigo para o mais recente
+     */
+    public Map<String, Integer> ultimasPorNome(int maximo) {
+        LinkedHashMap<String, Integer> encontrados = new LinkedHashMap<>();
+        if (execucoes == 0) return encontrados;
+        // percorre o índice e o nome.utf8 mapeados; só o nome da vez é copiado, num vetor reaproveitado
+        ByteBuffer indice = nomeIndice.ler(execucoes * 8L);
+        ByteBuffer dados = nomeDados.ler(totalBytesNomes);
+        byte[] nome = new byte[64];
+        for (int i = execucoes - 1; i >= 0 && (maximo <= 0 || encontrados.size() < maximo); i--) {
+            int inicio = i == 0 ? 0 : (int) indice.getLong((i - 1) * 8);
+            int tamanho = (int) indice.getLong(i * 8) - inicio;
+            if (tamanho > nome.length) nome = new byte[Math.max(tamanho, nome.length * 2)];
+            dados.get(inicio, nome, 0, tamanho);
+            encontrados.putIfAbsent(new String(nome, 0, tamanho, StandardCharsets.UTF_8), i);
+        }
+        LinkedHashMap<String, Integer> emOrdem = new LinkedHashMap<>();
+        List<String> nomes = List.copyOf(encontrados.keySet());
+        for (int k = nomes.size() - 1; k >= 0; k--) emOrdem.put(nomes.get(k), encontrados.get(nomes.get(k)));
+        return emOrdem;
+    }
+
+    /**
+     * Função do método: Retorna a primeira linha de processo de uma execução nas colunas por processo.
+     * Entrada: índice da execução
+     * Saída: Linha inicial (as linhas vão até inicioProcessos(execucao) + numProcessos(execucao))
+     */
+    public long inicioProcessos(int execucao) {
+        verificar(execucao);
+        return execucao == 0 ? 0 : procFim.ler(execucoes * 8L).getLong((execucao - 1) * 8);
+    }
+
+    public int numProcessos(int execucao) {
+        return (int) (procFim.ler(execucoes * 8L).getLong(execucao * 8) - inicioProcessos(execucao));
+    }
+
+    public int idProcesso(long linha) { return procId.ler(totalProcessos * 4).getInt(Math.toIntExact(linha * 4)); }
+
+    public long tempoDeRetorno(long linha) { return procRetorno.ler(totalProcessos * 8).getLong(Math.toIntExact(linha * 8)); }
+
+    public long tempoDeEspera(long linha) { return procEspera.ler(totalProcessos * 8).getLong(Math.toIntExact(linha * 8)); }
+
+    public long tempoDeResposta(long linha) { return procResposta.ler(totalProcessos * 8).getLong(Math.toIntExact(linha * 8)); }
+
+    private void verificar(int execucao) {
+        if (execucao < 0 || execucao >= execucoes) {
+            throw new IndexOutOfBoundsException("Execução " + execucao + " fora do histórico (" + execucoes + ")");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            fecharColunas();
+        } finally {
+            lock.release();
+            canalLock.close();
+        }
+    }
+
+    // Fecha as colunas já abertas (o construtor pode falhar no meio)
+    private void fecharColunas() throws IOException {
+        for (Coluna c : metricas.values()) c.canal.close();
+        for (Coluna c : new Coluna[] {nomeIndice, nomeDados, procFim, procId, procRetorno, procEspera, procResposta}) {
+            if (c != null) c.canal.close();
+        }
+    }
+}
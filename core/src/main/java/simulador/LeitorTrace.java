@@ -0,0 +1,326 @@
+package simulador;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê traces de carga (um processo por registro) de um arquivo mapeado em
+ * memória, em janelas de 64 MB: traces de vários GB são percorridos sem
+ * carregar o arquivo no heap, e cada registro é decodificado direto dos bytes
+ * mapeados, sem criar Strings.
+ *
+ * Dois formatos, detectados pelo início do arquivo:
+ *  - CSV: "id,chegada_ms,burst_ms,prioridade[,cpu]", onde cpu é a fração da
+ *    fatia que é CPU (0..1, padrão 1.0) e o resto é I/O. Linhas vazias, linhas
+ *    iniciadas por '#' e um cabeçalho antes do primeiro registro são ignorados.
+ *  - Binário: cabeçalho "SOTR" + versão (int) + quantidade (long), seguido de
+ *    registros de 24 bytes little-endian: chegada (long), id, burst e
+ *    prioridade (int) e cpu (float). Ver converterParaBinario.
+ *
+ * Os registros devem vir em ordem de chegada. Erros de formato geram
+ * IllegalArgumentException com a linha (ou o registro) do problema; falhas de
+ * leitura, UncheckedIOException.
+ */
+public final class LeitorTrace implements FonteProcessos, AutoCloseable {
+
+    private static final int MAGICO = 0x52544F53; // "SOTR" em little-endian
+    private static final int VERSAO = 1;
+    private static final int CABECALHO_BIN = 16;
+    private static final int REGISTRO_BIN = 24;
+    private static final long JANELA = 64L << 20;
+
+    private final Path arquivo;
+    private final FileChannel canal;
+    private final long tamanhoArquivo;
+    private final boolean binario;
+    private final long limite;
+    private final long quantidadeBinaria;
+    private final long tamanhoJanela;
+
+    private MappedByteBuffer janela;
+    private long baseJanela; // posição no arquivo do início da janela
+    private int pos;         // posição dentro da janela
+    private long linha;      // CSV: número da última linha lida
+    private long lidos;
+    private long ultimaChegadaMs;
+
+    // Registro atual
+    private int id, burstMs, prioridade;
+    private long chegadaMs;
+    private double cpuIntensidade;
+
+    // CSV: campo sendo lido na linha atual
+    private int cursor, fimLinha;
+
+    private LeitorTrace(Path arquivo, long limite, long tamanhoJanela) throws IOException {
+        this.arquivo = arquivo;
+        this.limite = limite > 0 ? limite : Long.MAX_VALUE;
+        this.tamanhoJanela = tamanhoJanela;
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            this.tamanhoArquivo = canal.size();
+            mapear(0L);
+            this.binario = tamanhoArquivo >= CABECALHO_BIN && janela.getInt(0) == MAGICO;
+            if (binario) {
+                int versao = janela.getInt(4);
+                if (versao != VERSAO) throw new IllegalArgumentException(arquivo + ": versão de trace binário não suportada: " + versao);
+                long noCabecalho = janela.getLong(8);
+                long noArquivo = (tamanhoArquivo - CABECALHO_BIN) / REGISTRO_BIN;
+                // cabeçalho zerado = gravação interrompida; vale o que estiver no arquivo
+                this.quantidadeBinaria = noCabecalho > 0 ? Math.min(noCabecalho, noArquivo) : noArquivo;
+                pos = CABECALHO_BIN;
+            } else {
+                this.quantidadeBinaria = 0;
+            }
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Função do método: Abre um trace (CSV ou binário) para leitura sequencial.
+     * Entrada: caminho do arquivo
+     * Saída: Leitor posicionado antes do primeiro registro
+     */
+    public static LeitorTrace abrir(Path arquivo) throws IOException {
+        return new LeitorTrace(arquivo, 0, JANELA);
+    }
+
+    /**
+     * Função do método: Abre um trace lendo no máximo "limite" registros.
+     * Entrada: caminho do arquivo, limite de registros (0 = todos)
+     * Saída: Leitor posicionado antes do primeiro registro
+     */
+    public static LeitorTrace abrir(Path arquivo, long limite) throws IOException {
+        return new LeitorTrace(arquivo, limite, JANELA);
+    }
+
+    // Janela menor que a padrão, para exercitar as trocas de janela com arquivos pequenos (testes)
+    static LeitorTrace abrir(Path arquivo, long limite, long tamanhoJanela) throws IOException {
+        if (tamanhoJanela < REGISTRO_BIN) throw new IllegalArgumentException("Janela menor que um registro: " + tamanhoJanela);
+        return new LeitorTrace(arquivo, limite, tamanhoJanela);
+    }
+
+    /**
+     * Função do método: Carrega o trace como lista de processos, para o Escalonador
+     * (interface, tempo real). Para traces grandes, prefira o SimuladorCompacto com o leitor.
+     * Entrada: caminho do arquivo, limite de registros (0 = todos)
+     * Saída: Lista de processos em ordem de chegada
+     */
+    public static List<Processo> lerProcessos(Path arquivo, long limite) throws IOException {
+        List<Processo> processos = new ArrayList<>();
+        try (LeitorTrace leitor = abrir(arquivo, limite)) {
+            while (leitor.proximo()) {
+                Processo p = new Processo(leitor.id(), leitor.prioridade(), leitor.burstMs(), leitor.chegadaMs());
+                p.setCpuIntensidade(leitor.cpuIntensidade());
+                processos.add(p);
+            }
+        }
+        return processos;
+    }
+
+    /**
+     * Função do método: Converte um trace (normalmente CSV) para o formato binário,
+     * que é lido sem nenhuma conversão de texto.
+     * Entrada: trace de origem, arquivo de destino
+     * Saída: Número de registros gravados
+     */
+    public static long converterParaBinario(Path origem, Path destino) throws IOException {
+        try (LeitorTrace leitor = abrir(origem);
+             FileChannel saida = FileChannel.open(destino, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocate(REGISTRO_BIN * 43_690).order(ByteOrder.LITTLE_ENDIAN); // ~1 MB
+            buf.putInt(MAGICO).putInt(VERSAO).putLong(0L); // quantidade gravada no fim
+            long total = 0;
+            while (leitor.proximo()) {
+                if (buf.remaining() < REGISTRO_BIN) {
+                    escreverTudo(saida, buf.flip());
+                    buf.clear();
+                }
+                buf.putLong(leitor.chegadaMs()).putInt(leitor.id()).putInt(leitor.burstMs())
+                        .putInt(leitor.prioridade()).putFloat((float) leitor.cpuIntensidade());
+                total++;
+            }
+            escreverTudo(saida, buf.flip());
+            ByteBuffer quantidade = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, total);
+            saida.write(quantidade, 8);
+            return total;
+        }
+    }
+
+    private static void escreverTudo(FileChannel canal, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) canal.write(buf);
+    }
+
+    private void mapear(long inicio) throws IOException {
+        long tamanho = Math.min(tamanhoJanela, tamanhoArquivo - inicio);
+        janela = canal.map(FileChannel.MapMode.READ_ONLY, inicio, tamanho);
+        janela.order(ByteOrder.LITTLE_ENDIAN);
+        baseJanela = inicio;
+        pos = 0;
+    }
+
+    /**
+     * Função do método: Avança para o próximo registro do trace.
+     * Entrada: Nenhuma
+     * Saída: true se há um registro atual; false no fim do arquivo (ou do limite)
+     */
+    @Override
+    public boolean proximo() {
+        if (lidos >= limite) return false;
+        try {
+            boolean achou = binario ? proximoBinario() : proximoCsv();
+            if (!achou) return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler " + arquivo, e);
+        }
+        if (burstMs <= 0) throw erro("burst deve ser positivo: " + burstMs);
+        if (chegadaMs < 0) throw erro("chegada negativa: " + chegadaMs);
+        if (lidos > 0 && chegadaMs < ultimaChegadaMs) {
+            throw erro("fora de ordem de chegada (" + chegadaMs + " < " + ultimaChegadaMs + ")");
+        }
+        if (!(cpuIntensidade >= 0.0 && cpuIntensidade <= 1.0)) throw erro("cpu fora de 0..1: " + cpuIntensidade);
+        ultimaChegadaMs = chegadaMs;
+        lidos++;
+        return true;
+    }
+
+    private boolean proximoBinario() throws IOException {
+        if (lidos >= quantidadeBinaria) return false;
+        if (pos + REGISTRO_BIN > janela.limit()) mapear(baseJanela + pos);
+        chegadaMs = janela.getLong(pos);
+        id = janela.getInt(pos + 8);
+        burstMs = janela.getInt(pos + 12);
+        prioridade = janela.getInt(pos + 16);
+        cpuIntensidade = janela.getFloat(pos + 20);
+        pos += REGISTRO_BIN;
+        return true;
+    }
+
+    private boolean proximoCsv() throws IOException {
+        while (baseJanela + pos < tamanhoArquivo) {
+            linha++; // antes de fimDaLinha, para que o erro de linha longa aponte a linha certa
+            int fim = fimDaLinha();
+            int inicio = pos;
+            pos = fim + 1;
+            if (fim > inicio && janela.get(fim - 1) == '\r') fim--;
+            if (fim == inicio || janela.get(inicio) == '#') continue;
+            if (!digito(janela.get(inicio))) {
+                if (lidos == 0) continue; // cabeçalho
+                throw erro("registro deve começar pelo id");
+            }
+            cursor = inicio;
+            fimLinha = fim;
+            id = (int) campoInteiro("id", Integer.MAX_VALUE);
+            chegadaMs = campoInteiro("chegada_ms", Long.MAX_VALUE);
+            burstMs = (int) campoInteiro("burst_ms", Integer.MAX_VALUE);
+            prioridade = (int) campoInteiro("prioridade", Integer.MAX_VALUE);
+            cpuIntensidade = cursor < fimLinha ? campoDecimal("cpu") : 1.0;
+            if (cursor < fimLinha) throw erro("campos demais");
+            return true;
+        }
+        return false;
+    }
+
+    // Índice do '\n' que termina a linha atual (ou o fim do arquivo), remapeando a janela se a linha a atravessa
+    private int fimDaLinha() throws IOException {
+        while (true) {
+            int limiteJanela = janela.limit();
+            for (int i = pos; i < limiteJanela; i++) {
+                if (janela.get(i) == '\n') return i;
+            }
+            if (baseJanela + limiteJanela >= tamanhoArquivo) return limiteJanela;
+            if (pos == 0) throw erro("linha maior que " + tamanhoJanela + " bytes");
+            mapear(baseJanela + pos);
+        }
+    }
+
+    private long campoInteiro(String nome, long maximo) {
+        pularEspacos();
+        int inicio = cursor;
+        long valor = 0;
+        while (cursor < fimLinha && digito(janela.get(cursor))) {
+            valor = valor * 10 + (janela.get(cursor++) - '0');
+            if (valor > maximo) throw erro(nome + " grande demais");
+        }
+        if (cursor == inicio) throw erro(nome + " não é um inteiro não negativo");
+        fecharCampo(nome);
+        return valor;
+    }
+
+    private double campoDecimal(String nome) {
+        pularEspacos();
+        int inicio = cursor;
+        long inteiro = 0, fracao = 0, escala = 1;
+        while (cursor < fimLinha && digito(janela.get(cursor))) inteiro = inteiro * 10 + (janela.get(cursor++) - '0');
+        if (cursor < fimLinha && janela.get(cursor) == '.') {
+            cursor++;
+            while (cursor < fimLinha && digito(janela.get(cursor))) {
+                if (escala < 1_000_000_000_000L) {
+                    fracao = fracao * 10 + (janela.get(cursor) - '0');
+                    escala *= 10;
+                }
+                cursor++;
+            }
+        }
+        if (cursor == inicio) throw erro(nome + " não é um número");
+        fecharCampo(nome);
+        return inteiro + (double) fracao / escala;
+    }
+
+    private void pularEspacos() {
+        while (cursor < fimLinha && janela.get(cursor) == ' ') cursor++;
+    }
+
+    private void fecharCampo(String nome) {
+        pularEspacos();
+        if (cursor < fimLinha) {
+            if (janela.get(cursor) != ',') throw erro("caractere inesperado após " + nome);
+            cursor++;
+        }
+    }
+
+    private static boolean digito(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private IllegalArgumentException erro(String mensagem) {
+        String onde = binario ? "registro " + (lidos + 1) : "linha " + linha;
+        return new IllegalArgumentException(String.format("Trace inválido (%s, %s): %s",
+                arquivo.getFileName(), onde, mensagem));
+    }
+
+    @Override public int id() { return id; }
+
+    @Override public long chegadaMs() { return chegadaMs; }
+
+    @Override public int burstMs() { return burstMs; }
+
+    @Override public int prioridade() { return prioridade; }
+
+    @Override public double cpuIntensidade() { return cpuIntensidade; }
+
+    /**
+     * Função do método: Retorna quantos registros já foram lidos.
+     * Entrada: Nenhuma
+     * Saída: Número de registros
+     */
+    public long getLidos() { return lidos; }
+
+    public boolean isBinario() { return binario; }
+
+    @Override
+    public void close() throws IOException {
+        janela = null; // o mapeamento é liberado pelo GC
+        canal.close();
+    }
+}
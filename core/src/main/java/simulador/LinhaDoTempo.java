@@ -0,0 +1,125 @@
+package simulador;
+
+import java.util.Arrays;
+
+/**
+ * Linha do tempo de uma execução: cada fatia (e cada overhead de troca) com
+ * início, fim, processo e CPU gasta, gravada por núcleo em vetores primitivos
+ * que crescem por duplicação.
+ *
+ * Em um núcleo as fatias nunca se sobrepõem e são gravadas em ordem, então
+ * início e fim são crescentes e a busca por um instante é binária. Cada núcleo
+ * tem um único escritor (o próprio núcleo); leitores veem o tamanho publicado.
+ */
+public final class LinhaDoTempo {
+
+    /** Valor de processo que marca um intervalo de overhead de troca de contexto */
+    public static final int OVERHEAD = -1;
+
+    private static final int CAPACIDADE_INICIAL = 256;
+
+    private static final class Faixa {
+        long[] inicios = new long[CAPACIDADE_INICIAL];
+        long[] fins = new long[CAPACIDADE_INICIAL];
+        int[] processos = new int[CAPACIDADE_INICIAL];
+        int[] cpus = new int[CAPACIDADE_INICIAL];
+        volatile int tamanho; // publicado depois de gravar a posição
+
+        void adicionar(int processo, long inicioMs, long fimMs, int cpuMs) {
+            int n = tamanho;
+            if (n == inicios.length) {
+                int nova = n << 1;
+                inicios = Arrays.copyOf(inicios, nova);
+                fins = Arrays.copyOf(fins, nova);
+                processos = Arrays.copyOf(processos, nova);
+                cpus = Arrays.copyOf(cpus, nova);
+            }
+            inicios[n] = inicioMs;
+            fins[n] = Math.max(inicioMs, fimMs);
+            processos[n] = processo;
+            cpus[n] = cpuMs;
+            tamanho = n + 1;
+        }
+    }
+
+    private final Faixa[] faixas;
+
+    public LinhaDoTempo(int numCpus) {
+        faixas = new Faixa[Math.max(1, numCpus)];
+        for (int i = 0; i < faixas.length; i++) faixas[i] = new Faixa();
+    }
+
+    /**
+     * Função do método: Grava uma fatia executada em um núcleo.
+     * Entrada: núcleo, id do processo, início e fim (ms desde o início da simulação), CPU gasta (ms)
+     * Saída: Nenhuma
+     */
+    public void registrarFatia(int nucleo, int processo, long inicioMs, long fimMs, int cpuMs) {
+        faixas[nucleo].adicionar(processo, inicioMs, fimMs, cpuMs);
+    }
+
+    /**
+     * Função do método: Grava um intervalo de overhead de troca de contexto em um núcleo.
+     * Entrada: núcleo, início e fim (ms desde o início da simulação)
+     * Saída: Nenhuma
+     */
+    public void registrarOverhead(int nucleo, long inicioMs, long fimMs) {
+        faixas[nucleo].adicionar(OVERHEAD, inicioMs, fimMs, 0);
+    }
+
+    /**
+     * Função do método: Localiza o primeiro intervalo do núcleo que termina depois do instante.
+     * Entrada: núcleo, instante (ms)
+     * Saída: Índice do intervalo (tamanho(nucleo) se nenhum)
+     */
+    public int primeiroAPartirDe(int nucleo, long instanteMs) {
+        Faixa f = faixas[nucleo];
+        int baixo = 0, alto = f.tamanho;
+        long[] fins = f.fins;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (fins[meio] <= instanteMs) baixo = meio + 1;
+            else alto = meio;
+        }
+        return baixo;
+    }
+
+    public int getNumCpus() { return faixas.length; }
+
+    public int tamanho(int nucleo) { return faixas[nucleo].tamanho; }
+
+    public long inicioMs(int nucleo, int i) { return faixas[nucleo].inicios[i]; }
+
+    public long fimMs(int nucleo, int i) { return faixas[nucleo].fins[i]; }
+
+    public int processo(int nucleo, int i) { return faixas[nucleo].processos[i]; }
+
+    public int cpuMs(int nucleo, int i) { return faixas[nucleo].cpus[i]; }
+
+    public boolean isOverhead(int nucleo, int i) { return faixas[nucleo].processos[i] == OVERHEAD; }
+
+    /**
+     * Função do método: Retorna o fim do último intervalo gravado em qualquer núcleo.
+     * Entrada: Nenhuma
+     * Saída: Instante em ms (0 se vazia)
+     */
+    public long getFimMs() {
+        long fim = 0;
+        for (Faixa f : faixas) {
+            int n = f.tamanho;
+            if (n > 0) fim = Math.max(fim, f.fins[n - 1]);
+        }
+        return fim;
+    }
+
+    /**
+     * Função do método: Retorna quantos intervalos (fatias e overheads) foram gravados.
+     * Entrada: Nenhuma
+     * Saída: Total de intervalos
+     */
+    public long getTotalIntervalos() {
+        long total = 0;
+        for (Faixa f : faixas) total += f.tamanho;
+        return total;
+    }
+}
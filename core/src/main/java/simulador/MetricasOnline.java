@@ -0,0 +1,145 @@
+package simulador;
+
+/**
+ * Métricas acumuladas durante a execução, alimentadas pelo callback do
+ * escalonador: cada evento custa O(1) (contadores e um balde de histograma).
+ * Leitores obtêm um Instantaneo imutável a qualquer momento.
+ *
+ * Também detecta convergência por médias em lotes: cada "janela" processos
+ * concluídos formam um lote, com a média do tempo de retorno só desses
+ * processos; quando as médias dos últimos lotes diferem entre si menos que a
+ * tolerância (relativa à média deles), isConvergiu() passa a true. A média
+ * acumulada não serve para isso: cada lote novo pesa cada vez menos nela, e
+ * ela parece estável mesmo quando os lotes recentes ainda variam.
+ */
+public class MetricasOnline implements Escalonador.EscalonadorCallback {
+
+    /** Métricas parciais em um instante da execução */
+    public record Instantaneo(long instanteMs,
+                              int concluidos,
+                              int totalProcessos,
+                              double throughput,
+                              double ocupacaoCpu,
+                              int trocasContexto,
+                              double retornoMedioMs,
+                              long retornoP99Ms,
+                              double esperaMediaMs,
+                              long esperaP99Ms,
+                              double respostaMediaMs,
+                              long respostaP99Ms,
+                              boolean convergiu) { }
+
+    private final int numCpus;
+    private final int totalProcessos;
+    private final int janela;
+    private final double tolerancia;
+    private final int janelasNecessarias;
+
+    private final HistogramaLatencia retorno = new HistogramaLatencia();
+    private final HistogramaLatencia espera = new HistogramaLatencia();
+    private final HistogramaLatencia resposta = new HistogramaLatencia();
+    private final RegistroEventos.Evento evento = new RegistroEventos.Evento(); // cópia reaproveitada em onEvento
+    private int concluidos;
+    private int trocas;
+    private long ocupadoMs;      // soma da duração das fatias em todos os núcleos
+    private long ultimoInstanteMs;
+
+    private long somaLoteMs;          // tempo de retorno somado no lote atual
+    private final double[] mediasLotes; // últimas médias de lote (circular)
+    private int lotes;
+    private volatile boolean convergiu;
+
+    // Padrão: lotes de 50 processos, médias dos 3 últimos lotes a menos de 5% entre si
+    public MetricasOnline(int numCpus, int totalProcessos) {
+        this(numCpus, totalProcessos, 50, 0.05, 3);
+    }
+
+    public MetricasOnline(int numCpus, int totalProcessos, int janela, double tolerancia, int janelasNecessarias) {
+        this.numCpus = Math.max(1, numCpus);
+        this.totalProcessos = totalProcessos;
+        this.janela = Math.max(1, janela);
+        this.tolerancia = tolerancia;
+        this.janelasNecessarias = Math.max(2, janelasNecessarias); // comparar exige ao menos dois lotes
+        this.mediasLotes = new double[this.janelasNecessarias];
+    }
+
+    @Override
+    public void onLog(String message) { }
+
+    @Override
+    public void onProcessoIniciado(Processo p) { }
+
+    /**
+     * Função do método: Registra as latências de um processo concluído e avalia a convergência.
+     * Entrada: Processo finalizado
+     * Saída: Nenhuma
+     */
+    @Override
+    public synchronized void onProcessoFinalizado(Processo p) {
+        retorno.registrar(p.getTempoDeRetorno());
+        espera.registrar(p.getTempoDeEspera());
+        resposta.registrar(p.getTempoDeResposta());
+        concluidos++;
+        somaLoteMs += p.getTempoDeRetorno();
+
+        if (concluidos % janela == 0) {
+            mediasLotes[lotes++ % mediasLotes.length] = (double) somaLoteMs / janela;
+            somaLoteMs = 0;
+            if (lotes >= mediasLotes.length && lotesProximos()) convergiu = true;
+        }
+    }
+
+    // As médias dos últimos lotes cabem numa faixa menor que a tolerância × média delas?
+    private boolean lotesProximos() {
+        double menor = Double.MAX_VALUE, maior = -Double.MAX_VALUE, soma = 0;
+        for (double m : mediasLotes) {
+            menor = Math.min(menor, m);
+            maior = Math.max(maior, m);
+            soma += m;
+        }
+        double media = soma / mediasLotes.length;
+        return media > 0 && (maior - menor) / media < tolerancia;
+    }
+
+    @Override
+    public void onConcluido() { }
+
+    /**
+     * Função do método: Acumula trocas de contexto, tempo ocupado e o relógio a partir dos eventos.
+     * Entrada: registro e sequência do evento
+     * Saída: Nenhuma
+     */
+    @Override
+    public synchronized void onEvento(RegistroEventos registro, long sequencia) {
+        if (!registro.copiar(sequencia, evento)) return; // sobrescrito por outro núcleo antes da cópia
+        ultimoInstanteMs = Math.max(ultimoInstanteMs, evento.instanteMs());
+        if (evento.tipo() == RegistroEventos.Tipo.FIM_FATIA) {
+            trocas++;
+            ocupadoMs += evento.valorA();
+        }
+    }
+
+    /**
+     * Função do método: Informa se as médias do tempo de retorno nos últimos lotes já se estabilizaram.
+     * Entrada: Nenhuma
+     * Saída: true se convergiu
+     */
+    public boolean isConvergiu() { return convergiu; }
+
+    /**
+     * Função do método: Monta as métricas parciais do instante atual.
+     * Entrada: Nenhuma
+     * Saída: Instantâneo imutável
+     */
+    public synchronized Instantaneo instantaneo() {
+        double segundos = ultimoInstanteMs / 1000.0;
+        double throughput = segundos > 0 ? concluidos / segundos : 0.0;
+        double ocupacao = ultimoInstanteMs > 0
+                ? Math.min(100.0, ocupadoMs * 100.0 / ((double) ultimoInstanteMs * numCpus)) : 0.0;
+        return new Instantaneo(ultimoInstanteMs, concluidos, totalProcessos, throughput, ocupacao, trocas,
+                retorno.getMedia(), retorno.getPercentil(99),
+                espera.getMedia(), espera.getPercentil(99),
+                resposta.getMedia(), resposta.getPercentil(99),
+                convergiu);
+    }
+}
@@ -0,0 +1,119 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Descrição de uma carga sintética: distribuições do burst (ms), do intervalo
+ * entre chegadas (ms) e da intensidade de CPU, mais a correlação entre
+ * prioridade e burst (-1..1; positiva = bursts longos com números de
+ * prioridade maiores). A prioridade é uniforme em 1..10, como em
+ * Avaliador.gerarCargaDeTrabalho, que continua gerando a carga legada.
+ *
+ * A mesma (carga, total, semente) produz sempre os mesmos processos, seja em
+ * fluxo (fonte/processos) ou em lista: todos passam pelo mesmo GeradorCarga.
+ */
+public record ModeloCarga(Distribuicao burstMs,
+                          Distribuicao intervaloMs,
+                          Distribuicao cpuIntensidade,
+                          double correlacao) {
+
+    public ModeloCarga {
+        if (!(correlacao >= -1 && correlacao <= 1)) {
+            throw new IllegalArgumentException("Correlação fora de [-1, 1]: " + correlacao);
+        }
+    }
+
+    // Parecida com a carga legada: bursts de 2 a 7 s, chegadas simultâneas, CPU de 30% a 90%
+    public static final ModeloCarga PADRAO = new ModeloCarga(new Distribuicao.Uniforme(2000, 7000),
+            new Distribuicao.Constante(0), new Distribuicao.Uniforme(0.3, 0.9), 0.0);
+
+    /**
+     * Função do método: Lê uma carga no formato da linha de comando, com campos separados
+     * por ';' (os omitidos ficam como em PADRAO), ex.:
+     * "burst=pareto:500:1.2:300000;intervalo=exp:200;cpu=uniforme:0.5:1;correlacao=0.7"
+     * Entrada: texto
+     * Saída: Carga
+     */
+    public static ModeloCarga ler(String texto) {
+        ModeloCarga m = PADRAO;
+        for (String campo : texto.split(";")) {
+            if (campo.isBlank()) continue;
+            int igual = campo.indexOf('=');
+            if (igual < 0) throw new IllegalArgumentException("Campo de carga sem '=': " + campo);
+            String chave = campo.substring(0, igual).trim().toLowerCase(Locale.ROOT);
+            String valor = campo.substring(igual + 1).trim();
+            m = switch (chave) {
+                case "burst" -> new ModeloCarga(Distribuicao.ler(valor), m.intervaloMs, m.cpuIntensidade, m.correlacao);
+                case "intervalo" -> new ModeloCarga(m.burstMs, Distribuicao.ler(valor), m.cpuIntensidade, m.correlacao);
+                case "cpu" -> new ModeloCarga(m.burstMs, m.intervaloMs, Distribuicao.ler(valor), m.correlacao);
+                case "correlacao" -> {
+                    try {
+                        yield new ModeloCarga(m.burstMs, m.intervaloMs, m.cpuIntensidade, Double.parseDouble(valor));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Correlação inválida: " + valor);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Campo de carga desconhecido: " + chave);
+            };
+        }
+        return m;
+    }
+
+    // Mesmo formato aceito por ler()
+    public String descricao() {
+        return "burst=" + burstMs.descricao() + ";intervalo=" + intervaloMs.descricao()
+                + ";cpu=" + cpuIntensidade.descricao() + ";correlacao=" + correlacao;
+    }
+
+    /**
+     * Função do método: Cria um cursor que gera os processos sob demanda (para o SimuladorCompacto).
+     * Entrada: total de processos, semente
+     * Saída: Fonte de processos em ordem de chegada
+     */
+    public GeradorCarga fonte(int total, long seed) {
+        return new GeradorCarga(this, total, seed);
+    }
+
+    /**
+     * Função do método: Gera os processos como um Stream preguiçoso (um Processo por vez).
+     * Entrada: total de processos, semente
+     * Saída: Stream sequencial e ordenado de processos
+     */
+    public Stream<Processo> processos(int total, long seed) {
+        GeradorCarga gerador = fonte(total, seed);
+        Iterator<Processo> it = new Iterator<>() {
+            private boolean pendente = gerador.proximo();
+
+            public boolean hasNext() { return pendente; }
+
+            public Processo next() {
+                if (!pendente) throw new NoSuchElementException();
+                Processo p = new Processo(gerador.id(), gerador.prioridade(), gerador.burstMs(), gerador.chegadaMs());
+                p.setCpuIntensidade(gerador.cpuIntensidade());
+                pendente = gerador.proximo();
+                return p;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliterator(it, Math.max(0, total),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED), false);
+    }
+
+    /**
+     * Função do método: Gera a carga inteira como lista de processos (para o Escalonador).
+     * Entrada: total de processos, semente
+     * Saída: Lista em ordem de chegada
+     */
+    public List<Processo> gerarLista(int total, long seed) {
+        List<Processo> lista = new ArrayList<>(Math.max(0, total));
+        processos(total, seed).forEach(lista::add);
+        return lista;
+    }
+}
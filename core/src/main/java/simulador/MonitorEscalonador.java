@@ -0,0 +1,177 @@
+package simulador;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Contadores em tempo real de todos os escalonadores de um algoritmo,
+ * publicados como MBean "simulador:type=Escalonador,algoritmo=...".
+ * Vários escalonadores (ex.: cenários de uma varredura em paralelo) podem
+ * alimentar o mesmo monitor: os contadores são LongAdder e o tamanho da fila
+ * é o da última decisão observada.
+ *
+ * Só é usado por quem chama Escalonador.setMonitor(); sem monitor o
+ * escalonador não mede nada a mais.
+ */
+public final class MonitorEscalonador implements MonitorEscalonadorMBean {
+
+    private static final Map<Escalonador.Algoritmo, MonitorEscalonador> MONITORES =
+            Collections.synchronizedMap(new EnumMap<>(Escalonador.Algoritmo.class));
+    private static volatile boolean ativo;
+
+    private final Escalonador.Algoritmo algoritmo;
+    private final AtomicInteger execucoesAtivas = new AtomicInteger();
+    private volatile int tamanhoFila;
+    private final LongAdder fatias = new LongAdder();
+    private final LongAdder overheadMs = new LongAdder();
+    private final LongAdder decisoes = new LongAdder();
+    private final LongAdder decisaoNs = new LongAdder();
+    private final LongAccumulator decisaoMaximaNs = new LongAccumulator(Math::max, 0L);
+    private final LongAdder cpuNs = new LongAdder();
+    private final LongAdder concluidos = new LongAdder();
+
+    // Taxa de fatias: recalculada no máximo uma vez por segundo de leitura
+    private long ultimaLeituraNs = System.nanoTime();
+    private long fatiasNaUltimaLeitura;
+    private double fatiasPorSegundo;
+
+    private MonitorEscalonador(Escalonador.Algoritmo algoritmo) {
+        this.algoritmo = algoritmo;
+    }
+
+    /**
+     * Função do método: Liga o monitoramento global (varreduras passam a anexar monitores).
+     * Entrada: Nenhuma
+     * Saída: Nenhuma
+     */
+    public static void ativar() { ativo = true; }
+
+    public static boolean isAtivo() { return ativo; }
+
+    /**
+     * Função do método: Retorna o monitor do algoritmo, criando e registrando o MBean na primeira vez.
+     * Entrada: Algoritmo
+     * Saída: Monitor compartilhado do algoritmo
+     */
+    public static MonitorEscalonador para(Escalonador.Algoritmo algoritmo) {
+        synchronized (MONITORES) {
+            MonitorEscalonador m = MONITORES.get(algoritmo);
+            if (m == null) {
+                m = new MonitorEscalonador(algoritmo);
+                MONITORES.put(algoritmo, m);
+                registrar(m);
+            }
+            return m;
+        }
+    }
+
+    /**
+     * Função do método: Retorna os monitores já criados, em ordem de algoritmo.
+     * Entrada: Nenhuma
+     * Saída: Coleção (cópia) de monitores
+     */
+    public static Collection<MonitorEscalonador> todos() {
+        synchronized (MONITORES) {
+            return List.copyOf(MONITORES.values());
+        }
+    }
+
+    private static void registrar(MonitorEscalonador m) {
+        try {
+            ObjectName nome = new ObjectName("simulador:type=Escalonador,algoritmo=" + m.algoritmo);
+            var servidor = ManagementFactory.getPlatformMBeanServer();
+            if (!servidor.isRegistered(nome)) servidor.registerMBean(m, nome);
+        } catch (JMException e) {
+            // sem JMX o monitor continua útil para o exportador Prometheus
+            System.err.println("Não foi possível registrar o MBean de " + m.algoritmo + ": " + e.getMessage());
+        }
+    }
+
+    // ---- alimentado pelo Escalonador ----
+
+    void iniciarExecucao() { execucoesAtivas.incrementAndGet(); }
+
+    void encerrarExecucao() { execucoesAtivas.decrementAndGet(); }
+
+    void registrarDecisao(long duracaoNs, int tamanhoFilaAposDecisao) {
+        decisoes.increment();
+        decisaoNs.add(duracaoNs);
+        decisaoMaximaNs.accumulate(duracaoNs);
+        tamanhoFila = tamanhoFilaAposDecisao;
+    }
+
+    void registrarFatia() { fatias.increment(); }
+
+    void registrarOverhead(long ms) { overheadMs.add(ms); }
+
+    void registrarCpu(long ns) { cpuNs.add(ns); }
+
+    void registrarConclusao() { concluidos.increment(); }
+
+    // ---- atributos JMX ----
+
+    @Override public String getAlgoritmo() { return algoritmo.name(); }
+
+    @Override public int getExecucoesAtivas() { return execucoesAtivas.get(); }
+
+    @Override public int getTamanhoFilaProntos() { return tamanhoFila; }
+
+    @Override public long getFatias() { return fatias.sum(); }
+
+    @Override
+    public synchronized double getFatiasPorSegundo() {
+        long agora = System.nanoTime();
+        long decorrido = agora - ultimaLeituraNs;
+        if (decorrido >= 1_000_000_000L) {
+            long total = fatias.sum();
+            fatiasPorSegundo = (total - fatiasNaUltimaLeitura) * 1e9 / decorrido;
+            fatiasNaUltimaLeitura = total;
+            ultimaLeituraNs = agora;
+        }
+        return fatiasPorSegundo;
+    }
+
+    @Override public long getOverheadTotalMs() { return overheadMs.sum(); }
+
+    @Override public long getDecisoes() { return decisoes.sum(); }
+
+    /** Soma das latências de decisão (ns), para exportar como sumário */
+    public long getLatenciaTotalDecisaoNs() { return decisaoNs.sum(); }
+
+    @Override
+    public double getLatenciaMediaDecisaoNs() {
+        long n = decisoes.sum();
+        return n == 0 ? 0.0 : (double) decisaoNs.sum() / n;
+    }
+
+    @Override public long getLatenciaMaximaDecisaoNs() { return decisaoMaximaNs.get(); }
+
+    @Override public double getCpuTotalMs() { return cpuNs.sum() / 1_000_000.0; }
+
+    @Override public long getProcessosConcluidos() { return concluidos.sum(); }
+
+    @Override
+    public void zerar() {
+        fatias.reset();
+        overheadMs.reset();
+        decisoes.reset();
+        decisaoNs.reset();
+        decisaoMaximaNs.reset();
+        cpuNs.reset();
+        concluidos.reset();
+        synchronized (this) {
+            fatiasNaUltimaLeitura = 0;
+            fatiasPorSegundo = 0;
+            ultimaLeituraNs = System.nanoTime();
+        }
+    }
+}
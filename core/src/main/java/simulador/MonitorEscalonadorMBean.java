@@ -0,0 +1,20 @@
+package simulador;
+
+/**
+ * Atributos publicados via JMX para cada algoritmo (ver MonitorEscalonador).
+ * Tempos de decisão em nanossegundos; demais tempos em ms.
+ */
+public interface MonitorEscalonadorMBean {
+    String getAlgoritmo();
+    int getExecucoesAtivas();
+    int getTamanhoFilaProntos();
+    long getFatias();
+    double getFatiasPorSegundo();
+    long getOverheadTotalMs();
+    long getDecisoes();
+    double getLatenciaMediaDecisaoNs();
+    long getLatenciaMaximaDecisaoNs();
+    double getCpuTotalMs();
+    long getProcessosConcluidos();
+    void zerar();
+}
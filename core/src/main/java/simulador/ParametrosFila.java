@@ -0,0 +1,91 @@
+package simulador;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Ajustes das filas de prontos que têm parâmetros próprios. Zero (ou lista
+ * vazia) mantém o padrão da fila, derivado do quantum.
+ *
+ * MLFQ: número de níveis (padrão 3, quantum dobrando a cada nível) ou os
+ * quanta de cada nível em ms, e o período de boost em ms (padrão 20 quanta).
+ * CFS: latência alvo e granularidade mínima em ms (padrão 6 e 0,75 quantum).
+ * Loteria: semente do sorteio dos bilhetes; Cenario usa a semente da carga,
+ * para que sementes diferentes variem também os sorteios.
+ */
+public record ParametrosFila(int mlfqNiveis, List<Integer> mlfqQuantaMs, long mlfqBoostMs,
+                             long cfsLatenciaAlvoMs, long cfsGranularidadeMinMs, long loteriaSemente) {
+
+    public static final ParametrosFila PADRAO = new ParametrosFila(0, List.of(), 0L, 0L, 0L);
+
+    // Ajustes da MLFQ e do CFS com a semente padrão da loteria
+    public ParametrosFila(int mlfqNiveis, List<Integer> mlfqQuantaMs, long mlfqBoostMs,
+                          long cfsLatenciaAlvoMs, long cfsGranularidadeMinMs) {
+        this(mlfqNiveis, mlfqQuantaMs, mlfqBoostMs, cfsLatenciaAlvoMs, cfsGranularidadeMinMs,
+                FilaLoteria.SEMENTE_PADRAO);
+    }
+
+    public ParametrosFila {
+        mlfqQuantaMs = mlfqQuantaMs == null ? List.of() : List.copyOf(mlfqQuantaMs);
+        if (mlfqNiveis < 0) throw new IllegalArgumentException("Níveis da MLFQ devem ser >= 0 (0 = padrão): " + mlfqNiveis);
+        if (mlfqBoostMs < 0) throw new IllegalArgumentException("Boost da MLFQ deve ser >= 0 ms (0 = padrão): " + mlfqBoostMs);
+        if (cfsLatenciaAlvoMs < 0) {
+            throw new IllegalArgumentException("Latência alvo do CFS deve ser >= 0 ms (0 = padrão): " + cfsLatenciaAlvoMs);
+        }
+        if (cfsGranularidadeMinMs < 0) {
+            throw new IllegalArgumentException("Granularidade do CFS deve ser >= 0 ms (0 = padrão): " + cfsGranularidadeMinMs);
+        }
+        for (int q : mlfqQuantaMs) {
+            if (q <= 0) throw new IllegalArgumentException("Quanta da MLFQ devem ser >= 1 ms: " + mlfqQuantaMs);
+        }
+        if (mlfqNiveis > 0 && !mlfqQuantaMs.isEmpty() && mlfqNiveis != mlfqQuantaMs.size()) {
+            throw new IllegalArgumentException("Níveis da MLFQ (" + mlfqNiveis + ") diferem dos quanta informados "
+                    + mlfqQuantaMs);
+        }
+    }
+
+    /**
+     * Função do método: Copia os parâmetros trocando a semente da loteria.
+     * Entrada: semente
+     * Saída: Parâmetros das filas
+     */
+    public ParametrosFila comSementeLoteria(long semente) {
+        return new ParametrosFila(mlfqNiveis, mlfqQuantaMs, mlfqBoostMs, cfsLatenciaAlvoMs, cfsGranularidadeMinMs,
+                semente);
+    }
+
+    /**
+     * Função do método: Cria a MLFQ com os níveis, quanta e boost configurados.
+     * Entrada: Nenhuma
+     * Saída: Fila multinível
+     */
+    FilaMultinivel criarMultinivel() {
+        if (!mlfqQuantaMs.isEmpty()) {
+            return new FilaMultinivel(mlfqQuantaMs.stream().mapToInt(Integer::intValue).toArray(), mlfqBoostMs);
+        }
+        return mlfqNiveis > 0 ? new FilaMultinivel(mlfqNiveis, mlfqBoostMs) : new FilaMultinivel(mlfqBoostMs);
+    }
+
+    /**
+     * Função do método: Descreve os ajustes que valem para o algoritmo, para nomes de cenário e relatórios.
+     * Entrada: Algoritmo
+     * Saída: Texto (vazio quando tudo está no padrão)
+     */
+    public String descricao(Escalonador.Algoritmo algoritmo) {
+        StringBuilder sb = new StringBuilder();
+        if (algoritmo == Escalonador.Algoritmo.MLFQ) {
+            if (!mlfqQuantaMs.isEmpty()) {
+                sb.append("quanta=").append(mlfqQuantaMs.stream().map(String::valueOf).collect(Collectors.joining("/")));
+            } else if (mlfqNiveis > 0) {
+                sb.append("niveis=").append(mlfqNiveis);
+            }
+            if (mlfqBoostMs > 0) sb.append(sb.isEmpty() ? "" : " ").append("boost=").append(mlfqBoostMs).append("ms");
+        } else if (algoritmo == Escalonador.Algoritmo.CFS) {
+            if (cfsLatenciaAlvoMs > 0) sb.append("latencia=").append(cfsLatenciaAlvoMs).append("ms");
+            if (cfsGranularidadeMinMs > 0) {
+                sb.append(sb.isEmpty() ? "" : " ").append("granularidade=").append(cfsGranularidadeMinMs).append("ms");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -1,14 +1,25 @@
+package simulador;
+
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Processo simulado. Sem travas: a cada momento só um thread o altera (o núcleo
+ * que o retirou da fila de prontos; a fila troca de dono sob a trava do
+ * escalonador, o que já publica o estado entre núcleos). Leitores de fora
+ * (interface, métricas ao vivo) leem estado e tempo executado, que são
+ * volatile; os tempos de início e fim são gravados antes do estado, então quem
+ * vê EXECUCAO ou FINALIZADO também vê o instante correspondente.
+ */
 public class Processo {
     private final int id;
     private final int prioridade;
     private final int tempoExecucao; // Tempo total necessário (burst time em ms)
-    private int tempoExecutado;
-    private Estado estado;
+    private volatile int tempoExecutado;
+    private volatile Estado estado;
 
-    // Métricas de timeline (em wall-clock)
+    // Métricas de timeline (em wall-clock, ou no relógio virtual em tempo simulado)
     private long tempoChegada;
+    private final long instanteChegadaMs; // deslocamento da chegada a partir do início da simulação
     private long tempoInicioPrimeiraExecucao = -1;
     private long tempoFinalizacao;
 
@@ -19,7 +30,13 @@ public class Processo {
     public enum Estado { NOVO, PRONTO, EXECUCAO, SUSPENSO, FINALIZADO }
 
     public Processo(int id, int prioridade, int tempoExecucao) {
+        this(id, prioridade, tempoExecucao, 0L);
+    }
+
+    // Processo que chega instanteChegadaMs após o início da simulação
+    public Processo(int id, int prioridade, int tempoExecucao, long instanteChegadaMs) {
         this.id = id;
+        this.instanteChegadaMs = Math.max(0L, instanteChegadaMs);
         this.prioridade = prioridade;
         this.tempoExecucao = tempoExecucao;
         this.tempoExecutado = 0;
@@ -34,7 +51,7 @@ public class Processo {
      * Entrada: Nenhuma
      * Saída: Nenhuma (atualiza estado)
      */
-    public synchronized void pronto() {
+    public void pronto() {
         this.estado = Estado.PRONTO;
     }
 
@@ -47,7 +64,7 @@ public class Processo {
      * Entrada: quantum, medidor de CPU
      * Saída: Tempo de CPU real gasto (nanossegundos)
      */
-    public synchronized long executar(int quantum, java.lang.management.ThreadMXBean medidor) {
+    public long executar(int quantum, java.lang.management.ThreadMXBean medidor) {
         if (estado == Estado.FINALIZADO) return 0L;
 
         if (tempoInicioPrimeiraExecucao == -1) {
@@ -59,7 +76,7 @@ public class Processo {
         int tempoParaExecutar = Math.min(quantum, tempoRestante);
 
         // parcela CPU-bound (busy loop) + parcela I/O-bound (sleep)
-        long cpuAlvoMs = Math.max(0, Math.round(tempoParaExecutar * cpuIntensidade));
+        long cpuAlvoMs = getParcelaCpuMs(tempoParaExecutar);
         long ioAlvoMs  = Math.max(0, tempoParaExecutar - cpuAlvoMs);
 
         // Medição de CPU real do thread atual (escalonador)
@@ -92,9 +109,10 @@ public class Processo {
             catch (InterruptedException e) { Thread.currentThread().interrupt(); }
         }
 
-        tempoExecutado += tempoParaExecutar;
+        int executado = tempoExecutado + tempoParaExecutar; // único escritor: ler e gravar sem trava
+        tempoExecutado = executado;
 
-        if (tempoExecutado >= tempoExecucao) {
+        if (executado >= tempoExecucao) {
             finalizar();
         } else {
             suspender();
@@ -102,12 +120,53 @@ public class Processo {
         return cpuGastoNs;
     }
 
+    /**
+     * Função do método: Inicia uma fatia em tempo simulado, sem busy loop nem sleep.
+     * Entrada: quantum, instante atual do relógio virtual (ms)
+     * Saída: Duração efetiva da fatia (ms)
+     */
+    public int iniciarFatiaSimulada(int quantum, long relogioMs) {
+        if (estado == Estado.FINALIZADO) return 0;
+
+        if (tempoInicioPrimeiraExecucao == -1) {
+            this.tempoInicioPrimeiraExecucao = relogioMs;
+        }
+        this.estado = Estado.EXECUCAO;
+        return Math.min(quantum, tempoExecucao - tempoExecutado);
+    }
+
+    /**
+     * Função do método: Conclui uma fatia em tempo simulado, suspendendo ou finalizando o processo.
+     * Entrada: duração da fatia (ms), instante atual do relógio virtual (ms)
+     * Saída: Nenhuma (atualiza estado e tempos)
+     */
+    public void concluirFatiaSimulada(int duracaoMs, long relogioMs) {
+        int executado = tempoExecutado + duracaoMs;
+        tempoExecutado = executado;
+
+        if (executado >= tempoExecucao) {
+            this.tempoFinalizacao = relogioMs; // antes do estado, que publica
+            this.estado = Estado.FINALIZADO;
+        } else {
+            suspender();
+        }
+    }
+
+    /**
+     * Função do método: Calcula a parcela CPU-bound de uma fatia segundo a intensidade de CPU.
+     * Entrada: duração da fatia (ms)
+     * Saída: Parcela de CPU (ms); o restante da fatia é I/O
+     */
+    public long getParcelaCpuMs(int duracaoMs) {
+        return Math.max(0, Math.round(duracaoMs * cpuIntensidade));
+    }
+
     /**
      * Função do método: Define o estado do processo como SUSPENSO.
      * Entrada: Nenhuma
      * Saída: Nenhuma (atualiza estado)
      */
-    public synchronized void suspender() {
+    public void suspender() {
         this.estado = Estado.SUSPENSO;
     }
 
@@ -116,9 +175,9 @@ public class Processo {
      * Entrada: Nenhuma
      * Saída: Nenhuma (atualiza estado e tempo)
      */
-    public synchronized void finalizar() {
+    public void finalizar() {
+        this.tempoFinalizacao = System.currentTimeMillis(); // antes do estado, que publica
         this.estado = Estado.FINALIZADO;
-        this.tempoFinalizacao = System.currentTimeMillis();
     }
 
     // Getters básicos
@@ -145,13 +204,13 @@ public class Processo {
      * Entrada: Nenhuma
      * Saída: Tempo executado em ms
      */
-    public synchronized int getTempoExecutado() { return tempoExecutado; }
+    public int getTempoExecutado() { return tempoExecutado; }
     /**
      * Função do método: Retorna o estado atual do processo.
      * Entrada: Nenhuma
      * Saída: Estado do processo
      */
-    public synchronized Estado getEstado() { return estado; }
+    public Estado getEstado() { return estado; }
 
     // Métricas de timeline
     /**
@@ -160,6 +219,18 @@ public class Processo {
      * Saída: Tempo de chegada (ms)
      */
     public long getTempoChegada() { return tempoChegada; }
+    /**
+     * Função do método: Define o tempo de chegada (usado pelo relógio virtual).
+     * Entrada: Tempo de chegada (ms)
+     * Saída: Nenhuma (atualiza atributo)
+     */
+    public void setTempoChegada(long tempoChegada) { this.tempoChegada = tempoChegada; }
+    /**
+     * Função do método: Retorna o instante de chegada relativo ao início da simulação.
+     * Entrada: Nenhuma
+     * Saída: Deslocamento da chegada (ms)
+     */
+    public long getInstanteChegadaMs() { return instanteChegadaMs; }
     /**
      * Função do método: Retorna o tempo de início da primeira execução.
      * Entrada: Nenhuma
@@ -0,0 +1,180 @@
+package simulador;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro estruturado dos eventos do escalonador num buffer circular
+ * pré-alocado: cada evento ocupa uma posição de vetores primitivos (tipo,
+ * processo, núcleo, instante e três contadores), sem criar objetos nem texto.
+ * O texto só é montado por quem precisa dele, via formatar().
+ *
+ * Escritores são serializados; leitores não bloqueiam o escalonador. Como um
+ * escritor pode dar a volta no buffer e sobrescrever a posição durante a
+ * leitura, os leitores copiam o evento para um Evento e só então validam a
+ * sequência (como num seqlock): cópias de posições já reaproveitadas são
+ * descartadas em vez de entregues com campos de dois eventos diferentes.
+ */
+public final class RegistroEventos {
+
+    public enum Tipo { CHEGADA, INICIO_FATIA, FIM_FATIA, SUSPENSO, FINALIZADO }
+
+    public static final int CAPACIDADE_PADRAO = 1 << 16;
+    private static final Tipo[] TIPOS = Tipo.values();
+
+    // Recebe cada evento disponível durante uma leitura (a cópia é reaproveitada entre chamadas)
+    public interface Leitor {
+        void evento(Evento evento);
+    }
+
+    // Cópia dos campos de um evento, validada depois da leitura
+    public static final class Evento {
+        private long sequencia;
+        private Tipo tipo;
+        private int processo;
+        private int nucleo;
+        private long instanteMs;
+        private int valorA, valorB, valorC;
+
+        public long sequencia() { return sequencia; }
+
+        public Tipo tipo() { return tipo; }
+
+        public int processo() { return processo; }
+
+        public int nucleo() { return nucleo; }
+
+        public long instanteMs() { return instanteMs; }
+
+        public int valorA() { return valorA; }
+
+        public int valorB() { return valorB; }
+
+        public int valorC() { return valorC; }
+
+        /**
+         * Função do método: Monta o texto de log do evento (mesmo formato do log original).
+         * Entrada: Nenhuma
+         * Saída: Linha de log
+         */
+        public String formatar() {
+            int p = processo;
+            return switch (tipo) {
+                case CHEGADA -> "[P" + p + "] CHEGOU | t=" + instanteMs + "ms";
+                case INICIO_FATIA -> "[P" + p + "] PRONTO | Prioridade: " + valorA;
+                case FIM_FATIA -> "[P" + p + "] EXECUTOU por " + valorA + "ms | Total: "
+                        + valorB + "/" + valorC + "ms";
+                case SUSPENSO -> "[P" + p + "] SUSPENSO";
+                case FINALIZADO -> "[P" + p + "] FINALIZADO\n";
+            };
+        }
+    }
+
+    private final int mascara;
+    private final byte[] tipos;
+    private final int[] processos;
+    private final int[] nucleos;
+    private final long[] instantes;
+    private final int[] valoresA;
+    private final int[] valoresB;
+    private final int[] valoresC;
+    private volatile long proximaSequencia = 0; // publicada após os campos da posição
+    private volatile long reservada = 0;        // avançada antes de os campos serem escritos
+    private final AtomicLong descartados = new AtomicLong(); // cópias invalidadas por sobrescrita
+
+    public RegistroEventos() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    public RegistroEventos(int capacidadeMinima) {
+        int capacidade = Integer.highestOneBit(Math.max(2, capacidadeMinima - 1)) << 1;
+        this.mascara = capacidade - 1;
+        this.tipos = new byte[capacidade];
+        this.processos = new int[capacidade];
+        this.nucleos = new int[capacidade];
+        this.instantes = new long[capacidade];
+        this.valoresA = new int[capacidade];
+        this.valoresB = new int[capacidade];
+        this.valoresC = new int[capacidade];
+    }
+
+    /**
+     * Função do método: Grava um evento na próxima posição do buffer.
+     * Entrada: tipo, id do processo, núcleo, instante (ms), três contadores dependentes do tipo
+     * Saída: Sequência atribuída ao evento
+     */
+    public synchronized long registrar(Tipo tipo, int processo, int nucleo, long instanteMs,
+                                       int a, int b, int c) {
+        long seq = proximaSequencia;
+        reservada = seq + 1;
+        VarHandle.storeStoreFence(); // a reserva fica visível antes de qualquer campo da posição
+        int i = (int) seq & mascara;
+        tipos[i] = (byte) tipo.ordinal();
+        processos[i] = processo;
+        nucleos[i] = nucleo;
+        instantes[i] = instanteMs;
+        valoresA[i] = a;
+        valoresB[i] = b;
+        valoresC[i] = c;
+        proximaSequencia = seq + 1;
+        return seq;
+    }
+
+    /**
+     * Função do método: Entrega ao leitor os eventos a partir de uma sequência.
+     * Eventos já sobrescritos (antes ou durante a cópia) são pulados.
+     * Entrada: primeira sequência desejada, leitor
+     * Saída: Próxima sequência a ler na chamada seguinte
+     */
+    public long lerDesde(long sequencia, Leitor leitor) {
+        long fim = proximaSequencia;
+        Evento evento = new Evento();
+        for (long s = Math.max(sequencia, getPrimeiraDisponivel()); s < fim; s++) {
+            if (copiar(s, evento)) leitor.evento(evento);
+        }
+        return fim;
+    }
+
+    /**
+     * Função do método: Copia um evento e confirma que a posição não foi reaproveitada durante a cópia.
+     * Entrada: sequência, cópia de destino
+     * Saída: true se a cópia é íntegra; false se o evento não está (mais) no buffer
+     */
+    public boolean copiar(long sequencia, Evento destino) {
+        if (sequencia < getPrimeiraDisponivel() || sequencia >= proximaSequencia) return false;
+        int i = (int) sequencia & mascara;
+        byte tipo = tipos[i];
+        destino.processo = processos[i];
+        destino.nucleo = nucleos[i];
+        destino.instanteMs = instantes[i];
+        destino.valorA = valoresA[i];
+        destino.valorB = valoresB[i];
+        destino.valorC = valoresC[i];
+        VarHandle.acquireFence(); // os campos acima são lidos antes da revalidação
+        if (sequencia < reservada - (mascara + 1)) {
+            descartados.incrementAndGet();
+            return false;
+        }
+        destino.tipo = TIPOS[tipo];
+        destino.sequencia = sequencia;
+        return true;
+    }
+
+    /**
+     * Função do método: Informa se o evento ainda está no buffer (não foi sobrescrito).
+     * Entrada: sequência
+     * Saída: true se disponível
+     */
+    public boolean disponivel(long sequencia) {
+        return sequencia >= getPrimeiraDisponivel() && sequencia < proximaSequencia;
+    }
+
+    public long getProximaSequencia() { return proximaSequencia; }
+
+    public long getPrimeiraDisponivel() { return Math.max(0L, proximaSequencia - (mascara + 1)); }
+
+    public int getCapacidade() { return mascara + 1; }
+
+    // Cópias descartadas porque um escritor sobrescreveu a posição durante a leitura
+    public long getDescartados() { return descartados.get(); }
+}
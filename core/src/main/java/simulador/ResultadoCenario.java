@@ -0,0 +1,96 @@
+package simulador;
+
+import java.util.Locale;
+
+/**
+ * Métricas resumidas de um cenário executado, prontas para exportação.
+ */
+public record ResultadoCenario(Cenario cenario,
+                               double tempoTotalMs,
+                               double throughput,
+                               double tempoMedioRetornoMs,
+                               double tempoMedioEsperaMs,
+                               double tempoMedioRespostaMs,
+                               double utilizacaoCpu,
+                               int trocasContexto,
+                               long overheadTotalMs,
+                               long tempoOciosoMs,
+                               long retornoP99Ms,
+                               long retornoMaxMs,
+                               long esperaP99Ms,
+                               long esperaMaxMs,
+                               long respostaP99Ms,
+                               long respostaMaxMs) {
+
+    static final String CABECALHO_CSV = "algoritmo,quantum,processos,seed,overhead_ms,cpus,modo,chegada,taxa,"
+            + "tempo_total_ms,throughput,retorno_medio_ms,espera_media_ms,resposta_media_ms,"
+            + "utilizacao_cpu,trocas_contexto,overhead_total_ms,ocioso_ms,"
+            + "retorno_p99_ms,retorno_max_ms,espera_p99_ms,espera_max_ms,resposta_p99_ms,resposta_max_ms,trace,carga,fila";
+
+    public ResultadoCenario(Cenario cenario, Avaliador av) {
+        this(cenario, av.getTempoTotalSimulacaoMs(), av.getThroughput(), av.getTempoMedioDeRetorno(),
+                av.getTempoMedioDeEspera(), av.getTempoMedioDeResposta(), av.getUtilizacaoCPU(),
+                av.getTrocasDeContexto(), av.getTempoOverheadTotalMs(), av.getTempoOciosoTotalMs(),
+                av.getDistribuicaoRetorno().getPercentil(99), av.getDistribuicaoRetorno().getMaximo(),
+                av.getDistribuicaoEspera().getPercentil(99), av.getDistribuicaoEspera().getMaximo(),
+                av.getDistribuicaoResposta().getPercentil(99), av.getDistribuicaoResposta().getMaximo());
+    }
+
+    /**
+     * Função do método: Formata o resultado como uma linha CSV (ponto decimal).
+     * Entrada: Nenhuma
+     * Saída: Linha CSV sem quebra de linha
+     */
+    public String paraCsv() {
+        Cenario c = cenario;
+        return String.format(Locale.ROOT,
+                "%s,%d,%d,%d,%d,%d,%s,%s,%.3f,%.1f,%.4f,%.2f,%.2f,%.2f,%.2f,%d,%d,%d,%d,%d,%d,%d,%d,%d,%s,%s,%s",
+                c.algoritmo(), c.quantum(), c.numProcessos(), c.seed(), c.overheadMs(), c.numCpus(),
+                c.modo(), chegada(), c.taxaChegada(),
+                tempoTotalMs, throughput, tempoMedioRetornoMs, tempoMedioEsperaMs, tempoMedioRespostaMs,
+                utilizacaoCpu, trocasContexto, overheadTotalMs, tempoOciosoMs,
+                retornoP99Ms, retornoMaxMs, esperaP99Ms, esperaMaxMs, respostaP99Ms, respostaMaxMs,
+                c.trace() == null ? "" : csv(c.trace().getFileName().toString()),
+                c.carga() == null ? "" : csv(c.carga().descricao()),
+                csv(c.parametrosFila().descricao(c.algoritmo())));
+    }
+
+    /**
+     * Função do método: Formata o resultado como um objeto JSON.
+     * Entrada: Nenhuma
+     * Saída: Objeto JSON em uma linha
+     */
+    public String paraJson() {
+        Cenario c = cenario;
+        return String.format(Locale.ROOT, "{\"algoritmo\":\"%s\",\"quantum\":%d,\"processos\":%d,\"seed\":%d,"
+                        + "\"overhead_ms\":%d,\"cpus\":%d,\"modo\":\"%s\",\"chegada\":\"%s\",\"taxa\":%.3f,"
+                        + "\"tempo_total_ms\":%.1f,\"throughput\":%.4f,\"retorno_medio_ms\":%.2f,"
+                        + "\"espera_media_ms\":%.2f,\"resposta_media_ms\":%.2f,\"utilizacao_cpu\":%.2f,"
+                        + "\"trocas_contexto\":%d,\"overhead_total_ms\":%d,\"ocioso_ms\":%d,"
+                        + "\"retorno_p99_ms\":%d,\"retorno_max_ms\":%d,\"espera_p99_ms\":%d,"
+                        + "\"espera_max_ms\":%d,\"resposta_p99_ms\":%d,\"resposta_max_ms\":%d,\"trace\":%s,\"carga\":%s,\"fila\":%s}",
+                c.algoritmo(), c.quantum(), c.numProcessos(), c.seed(), c.overheadMs(), c.numCpus(),
+                c.modo(), chegada(), c.taxaChegada(),
+                tempoTotalMs, throughput, tempoMedioRetornoMs, tempoMedioEsperaMs, tempoMedioRespostaMs,
+                utilizacaoCpu, trocasContexto, overheadTotalMs, tempoOciosoMs,
+                retornoP99Ms, retornoMaxMs, esperaP99Ms, esperaMaxMs, respostaP99Ms, respostaMaxMs,
+                c.trace() == null ? "null" : json(c.trace().getFileName().toString()),
+                c.carga() == null ? "null" : json(c.carga().descricao()),
+                json(c.parametrosFila().descricao(c.algoritmo())));
+    }
+
+    // Com trace ou carga configurada, a coluna de chegada indica de onde vieram os instantes
+    private String chegada() {
+        if (cenario.trace() != null) return "TRACE";
+        return cenario.carga() != null ? "CARGA" : cenario.modeloChegada().name();
+    }
+
+    private static String csv(String texto) {
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0) return texto;
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(String texto) {
+        return '"' + texto.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
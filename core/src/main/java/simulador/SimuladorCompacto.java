@@ -0,0 +1,290 @@
+package simulador;
+
+import java.util.Arrays;
+
+/**
+ * Motor de tempo simulado sobre uma TabelaProcessos: as mesmas regras do
+ * modo TEMPO_SIMULADO do Escalonador (eventos de fim da parcela de CPU, fim do
+ * I/O e fim do overhead; overhead só quando há troca pendente), mas operando
+ * sobre índices de linha e vetores primitivos. Não cria objetos por processo,
+ * por fatia nem por evento, e as chegadas são lidas direto da tabela em vez de
+ * irem para a fila de eventos, que fica com no máximo um evento por núcleo.
+ *
+ * Sem callback, registro de eventos nem linha do tempo: as métricas de cada
+ * processo vão para histogramas no momento em que ele termina.
+ *
+ * Com uma FonteProcessos (ex.: LeitorTrace), cada processo só é lido quando o
+ * relógio chega à sua chegada, e a linha é liberada quando ele termina: a
+ * memória acompanha o número de processos ativos, não o tamanho do trace.
+ */
+public final class SimuladorCompacto {
+
+    private static final byte FIM_CPU = 0, FIM_IO = 1, FIM_OVERHEAD = 2;
+
+    private final Escalonador.Algoritmo algoritmo;
+    private final int quantum;
+    private final TabelaProcessos tabela;
+    private final int overheadTrocaMs;
+    private final int numCpus;
+
+    private volatile boolean interrompido;
+
+    // Resultados
+    private long relogioMs;
+    private int trocasContexto;
+    private int concluidos;
+    private long tempoOverheadTotalMs;
+    private long tempoOciosoTotalMs;
+    private final long[] cpuPorNucleoNs;
+    private final HistogramaLatencia retorno = new HistogramaLatencia();
+    private final HistogramaLatencia espera = new HistogramaLatencia();
+    private final HistogramaLatencia resposta = new HistogramaLatencia();
+
+    // Estado de cada CPU simulada (indexado pelo núcleo); -1 = livre
+    private final int[] emExecucao;
+    private final int[] fatiaAtualMs;
+    private final long[] cpuAtualMs;
+    private final boolean[] emOverhead;
+    private final long[] ociosoDesdeMs;
+
+    // Heap de eventos (tempo, sequência) em vetores paralelos
+    private final long[] eventoTempo, eventoSeq;
+    private final byte[] eventoTipo;
+    private final int[] eventoNucleo;
+    private int numEventos;
+    private long sequenciaEventos;
+
+    private FilaIndices fila;
+
+    // Chegadas: da tabela (em ordem, ou pela permutação "ordem") ou da fonte, uma por vez
+    private final FonteProcessos fonte;
+    private int[] ordem;
+    private int proximaChegada;
+    private int chegadaPendente = -1;
+
+    public SimuladorCompacto(Escalonador.Algoritmo algoritmo, int quantum, TabelaProcessos tabela,
+                             int overheadTrocaMs, int numCpus) {
+        this(algoritmo, quantum, tabela, null, overheadTrocaMs, numCpus);
+    }
+
+    // Lê os processos da fonte sob demanda, reaproveitando as linhas dos que terminaram
+    public SimuladorCompacto(Escalonador.Algoritmo algoritmo, int quantum, FonteProcessos fonte,
+                             int overheadTrocaMs, int numCpus) {
+        this(algoritmo, quantum, new TabelaProcessos(), fonte, overheadTrocaMs, numCpus);
+    }
+
+    private SimuladorCompacto(Escalonador.Algoritmo algoritmo, int quantum, TabelaProcessos tabela,
+                              FonteProcessos fonte, int overheadTrocaMs, int numCpus) {
+        this.fonte = fonte;
+        this.algoritmo = algoritmo;
+        this.quantum = quantum;
+        this.tabela = tabela;
+        this.overheadTrocaMs = Math.max(0, overheadTrocaMs);
+        this.numCpus = Math.max(1, numCpus);
+        this.cpuPorNucleoNs = new long[this.numCpus];
+        this.emExecucao = new int[this.numCpus];
+        this.fatiaAtualMs = new int[this.numCpus];
+        this.cpuAtualMs = new long[this.numCpus];
+        this.emOverhead = new boolean[this.numCpus];
+        this.ociosoDesdeMs = new long[this.numCpus];
+        // cada núcleo tem no máximo um evento pendente (CPU, I/O ou overhead)
+        int capacidade = this.numCpus + 1;
+        this.eventoTempo = new long[capacidade];
+        this.eventoSeq = new long[capacidade];
+        this.eventoTipo = new byte[capacidade];
+        this.eventoNucleo = new int[capacidade];
+        FilaIndices.para(algoritmo, tabela); // falha cedo se o algoritmo não tem versão compacta
+    }
+
+    /**
+     * Função do método: Executa a simulação até todos os processos terminarem (ou interromper()).
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (preenche a tabela e as métricas)
+     */
+    public void escalonar() {
+        fila = FilaIndices.para(algoritmo, tabela);
+        interrompido = false;
+        Arrays.fill(emExecucao, -1);
+        ordem = fonte == null ? tabela.ordemDeChegada() : null; // null = linhas já em ordem de chegada
+        proximaChegada = 0;
+        relogioMs = 0L;
+
+        while (!interrompido) {
+            int chegada = espiarChegada();
+            if (chegada < 0 && numEventos == 0) break;
+            long proximaChegadaMs = chegada >= 0 ? tabela.instanteChegadaMs(chegada) : Long.MAX_VALUE;
+            if (proximaChegadaMs < relogioMs) {
+                throw new IllegalArgumentException("Processo " + tabela.id(chegada)
+                        + " fora de ordem de chegada (" + proximaChegadaMs + " < " + relogioMs + ")");
+            }
+            relogioMs = numEventos > 0 ? Math.min(eventoTempo[0], proximaChegadaMs) : proximaChegadaMs;
+
+            // chegadas antes dos demais eventos do instante, como no Escalonador
+            while ((chegada = espiarChegada()) >= 0 && tabela.instanteChegadaMs(chegada) == relogioMs) {
+                tabela.setEstado(chegada, Processo.Estado.PRONTO);
+                fila.adicionar(chegada);
+                consumirChegada();
+            }
+            while (numEventos > 0 && eventoTempo[0] == relogioMs) {
+                byte tipo = eventoTipo[0];
+                int nucleo = eventoNucleo[0];
+                removerEvento();
+                tratarEvento(tipo, nucleo);
+            }
+            for (int n = 0; n < numCpus && !fila.estaVazia(); n++) {
+                if (emExecucao[n] < 0 && !emOverhead[n]) despachar(n);
+            }
+        }
+
+        for (int n = 0; n < numCpus; n++) {
+            if (emExecucao[n] < 0 && !emOverhead[n]) tempoOciosoTotalMs += relogioMs - ociosoDesdeMs[n];
+        }
+    }
+
+    /**
+     * Função do método: Retorna a linha do próximo processo a chegar, lendo-o da fonte se preciso.
+     * Entrada: Nenhuma
+     * Saída: Linha do processo, ou -1 se não há mais chegadas
+     */
+    private int espiarChegada() {
+        if (fonte == null) {
+            if (proximaChegada >= tabela.tamanho()) return -1;
+            return ordem == null ? proximaChegada : ordem[proximaChegada];
+        }
+        if (chegadaPendente < 0 && fonte.proximo()) {
+            chegadaPendente = tabela.adicionar(fonte.id(), fonte.prioridade(), fonte.burstMs(),
+                    fonte.chegadaMs(), fonte.cpuIntensidade());
+        }
+        return chegadaPendente;
+    }
+
+    private void consumirChegada() {
+        if (fonte == null) proximaChegada++;
+        else chegadaPendente = -1;
+    }
+
+    /**
+     * Função do método: Pede o fim antecipado da simulação.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma
+     */
+    public void interromper() { interrompido = true; }
+
+    private void tratarEvento(byte tipo, int n) {
+        switch (tipo) {
+            case FIM_CPU -> {
+                cpuPorNucleoNs[n] += cpuAtualMs[n] * 1_000_000L;
+                long ioMs = fatiaAtualMs[n] - cpuAtualMs[n];
+                if (ioMs > 0) agendar(relogioMs + ioMs, FIM_IO, n);
+                else concluirFatia(n);
+            }
+            case FIM_IO -> concluirFatia(n);
+            default -> {
+                tempoOverheadTotalMs += overheadTrocaMs;
+                emOverhead[n] = false;
+                ociosoDesdeMs[n] = relogioMs;
+            }
+        }
+    }
+
+    private void despachar(int n) {
+        int p = fila.remover();
+        int fatia = fila.fatia(p, quantum);
+        tempoOciosoTotalMs += relogioMs - ociosoDesdeMs[n];
+        emExecucao[n] = p;
+        fatiaAtualMs[n] = tabela.iniciarFatia(p, fatia, relogioMs);
+        cpuAtualMs[n] = tabela.getParcelaCpuMs(p, fatiaAtualMs[n]);
+        agendar(relogioMs + cpuAtualMs[n], FIM_CPU, n);
+    }
+
+    private void concluirFatia(int n) {
+        int p = emExecucao[n];
+        emExecucao[n] = -1;
+        trocasContexto++;
+        if (tabela.concluirFatia(p, fatiaAtualMs[n], relogioMs)) {
+            concluidos++;
+            retorno.registrar(tabela.tempoDeRetorno(p));
+            espera.registrar(tabela.tempoDeEspera(p));
+            resposta.registrar(tabela.tempoDeResposta(p));
+            if (fonte != null) tabela.liberar(p);
+        } else {
+            fila.adicionar(p);
+        }
+        // overhead somente quando há uma decisão de troca pendente
+        if (!fila.estaVazia() && overheadTrocaMs > 0) {
+            emOverhead[n] = true;
+            agendar(relogioMs + overheadTrocaMs, FIM_OVERHEAD, n);
+        } else {
+            ociosoDesdeMs[n] = relogioMs;
+        }
+    }
+
+    // ---- heap de eventos ----
+
+    private void agendar(long tempo, byte tipo, int nucleo) {
+        int i = numEventos++;
+        eventoTempo[i] = tempo;
+        eventoSeq[i] = sequenciaEventos++;
+        eventoTipo[i] = tipo;
+        eventoNucleo[i] = nucleo;
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (!eventoAntes(i, pai)) break;
+            trocarEventos(i, pai);
+            i = pai;
+        }
+    }
+
+    private void removerEvento() {
+        numEventos--;
+        if (numEventos == 0) return;
+        trocarEventos(0, numEventos);
+        int i = 0;
+        while (true) {
+            int esq = 2 * i + 1, dir = esq + 1, menor = i;
+            if (esq < numEventos && eventoAntes(esq, menor)) menor = esq;
+            if (dir < numEventos && eventoAntes(dir, menor)) menor = dir;
+            if (menor == i) return;
+            trocarEventos(i, menor);
+            i = menor;
+        }
+    }
+
+    private boolean eventoAntes(int i, int j) {
+        if (eventoTempo[i] != eventoTempo[j]) return eventoTempo[i] < eventoTempo[j];
+        return eventoSeq[i] < eventoSeq[j];
+    }
+
+    private void trocarEventos(int i, int j) {
+        long t = eventoTempo[i]; eventoTempo[i] = eventoTempo[j]; eventoTempo[j] = t;
+        long s = eventoSeq[i]; eventoSeq[i] = eventoSeq[j]; eventoSeq[j] = s;
+        byte k = eventoTipo[i]; eventoTipo[i] = eventoTipo[j]; eventoTipo[j] = k;
+        int n = eventoNucleo[i]; eventoNucleo[i] = eventoNucleo[j]; eventoNucleo[j] = n;
+    }
+
+    // Getters de métricas
+
+    public double getTempoTotal() { return relogioMs; }
+
+    public int getTrocasContexto() { return trocasContexto; }
+
+    public int getConcluidos() { return concluidos; }
+
+    public long getTempoOverheadTotalMs() { return tempoOverheadTotalMs; }
+
+    public long getTempoOciosoTotalMs() { return tempoOciosoTotalMs; }
+
+    public long[] getCpuPorNucleoNs() { return cpuPorNucleoNs.clone(); }
+
+    public int getNumCpus() { return numCpus; }
+
+    public boolean isInterrompido() { return interrompido; }
+
+    public TabelaProcessos getTabela() { return tabela; }
+
+    public HistogramaLatencia getDistribuicaoRetorno() { return retorno; }
+
+    public HistogramaLatencia getDistribuicaoEspera() { return espera; }
+
+    public HistogramaLatencia getDistribuicaoResposta() { return resposta; }
+}
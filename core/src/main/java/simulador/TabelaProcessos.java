@@ -0,0 +1,213 @@
+package simulador;
+
+import java.util.Arrays;
+
+/**
+ * Tabela de processos em estrutura de vetores (um vetor primitivo por campo),
+ * usada pelo SimuladorCompacto no lugar de objetos Processo. Cada processo é
+ * uma linha (índice 0..tamanho-1) e ocupa ~45 bytes, sem cabeçalho de objeto
+ * nem ponteiros, o que permite simular milhões de processos em poucas centenas
+ * de MB e percorrer os campos de forma sequencial.
+ *
+ * Os campos seguem os de Processo: tempos em ms, chegada relativa ao início da
+ * simulação e -1 enquanto o processo não executou pela primeira vez.
+ * Quando os processos vêm de uma FonteProcessos, as linhas dos que terminaram
+ * são liberadas e reaproveitadas, e a tabela fica do tamanho dos processos ativos.
+ */
+public final class TabelaProcessos {
+
+    private static final int CAPACIDADE_INICIAL = 1024;
+    private static final Processo.Estado[] ESTADOS = Processo.Estado.values();
+
+    private int[] ids;
+    private int[] prioridades;
+    private int[] tempoExecucao;
+    private int[] tempoExecutado;
+    private byte[] estados;
+    private long[] instanteChegadaMs;
+    private long[] inicioPrimeiraExecucao;
+    private long[] finalizacao;
+    private float[] cpuIntensidade;
+    private int tamanho;
+    private boolean ordenadaPorChegada = true;
+    private int[] livres = new int[0]; // pilha de linhas liberadas
+    private int numLivres;
+
+    public TabelaProcessos() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    public TabelaProcessos(int capacidade) {
+        alocar(Math.max(1, capacidade));
+    }
+
+    private void alocar(int capacidade) {
+        ids = new int[capacidade];
+        prioridades = new int[capacidade];
+        tempoExecucao = new int[capacidade];
+        tempoExecutado = new int[capacidade];
+        estados = new byte[capacidade];
+        instanteChegadaMs = new long[capacidade];
+        inicioPrimeiraExecucao = new long[capacidade];
+        finalizacao = new long[capacidade];
+        cpuIntensidade = new float[capacidade];
+    }
+
+    /**
+     * Função do método: Acrescenta um processo numa linha liberada ou no fim da tabela (que cresce se preciso).
+     * Entrada: id, prioridade, burst (ms), instante de chegada (ms), intensidade de CPU (0..1)
+     * Saída: Índice da linha criada
+     */
+    public int adicionar(int id, int prioridade, int burstMs, long chegadaMs, double intensidade) {
+        int i;
+        if (numLivres > 0) {
+            i = livres[--numLivres];
+            ordenadaPorChegada = false;
+            tempoExecutado[i] = 0;
+            finalizacao[i] = 0L;
+        } else {
+            if (tamanho == ids.length) crescer();
+            i = tamanho;
+            if (i > 0 && chegadaMs < instanteChegadaMs[i - 1]) ordenadaPorChegada = false;
+            tamanho = i + 1;
+        }
+        ids[i] = id;
+        prioridades[i] = prioridade;
+        tempoExecucao[i] = burstMs;
+        instanteChegadaMs[i] = Math.max(0L, chegadaMs);
+        inicioPrimeiraExecucao[i] = -1;
+        cpuIntensidade[i] = (float) Math.max(0.0, Math.min(1.0, intensidade));
+        estados[i] = (byte) Processo.Estado.NOVO.ordinal();
+        return i;
+    }
+
+    /**
+     * Função do método: Devolve a linha de um processo que já saiu da simulação para reúso.
+     * Entrada: linha
+     * Saída: Nenhuma
+     */
+    void liberar(int i) {
+        if (numLivres == livres.length) livres = Arrays.copyOf(livres, Math.max(16, numLivres << 1));
+        livres[numLivres++] = i;
+    }
+
+    private void crescer() {
+        int nova = (int) Math.min(Integer.MAX_VALUE - 8, (long) ids.length << 1);
+        if (nova <= ids.length) throw new IllegalStateException("Tabela de processos cheia: " + tamanho);
+        ids = Arrays.copyOf(ids, nova);
+        prioridades = Arrays.copyOf(prioridades, nova);
+        tempoExecucao = Arrays.copyOf(tempoExecucao, nova);
+        tempoExecutado = Arrays.copyOf(tempoExecutado, nova);
+        estados = Arrays.copyOf(estados, nova);
+        instanteChegadaMs = Arrays.copyOf(instanteChegadaMs, nova);
+        inicioPrimeiraExecucao = Arrays.copyOf(inicioPrimeiraExecucao, nova);
+        finalizacao = Arrays.copyOf(finalizacao, nova);
+        cpuIntensidade = Arrays.copyOf(cpuIntensidade, nova);
+    }
+
+    /**
+     * Função do método: Gera a carga de Avaliador.gerarCargaDeTrabalho direto na tabela,
+     * sem criar objetos Processo (o mesmo gerador preenche a lista e a tabela).
+     * Entrada: totalProcessos, seed, modelo de chegada, taxa média (processos/s)
+     * Saída: Tabela em ordem de chegada
+     */
+    public static TabelaProcessos gerar(int totalProcessos, int seed,
+                                        Avaliador.ModeloChegada modelo, double taxaPorSegundo) {
+        TabelaProcessos t = new TabelaProcessos(totalProcessos);
+        Avaliador.gerarCargaDeTrabalho(totalProcessos, seed, modelo, taxaPorSegundo, t::adicionar);
+        return t;
+    }
+
+    /**
+     * Função do método: Monta a ordem de admissão (chegada, empate pela linha) sem objetos.
+     * Entrada: Nenhuma
+     * Saída: Índices das linhas em ordem de chegada; null se a tabela já está nessa ordem
+     */
+    int[] ordemDeChegada() {
+        if (ordenadaPorChegada) return null;
+        int[] ordem = new int[tamanho];
+        int[] auxiliar = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) ordem[i] = i;
+        // merge sort estável de baixo para cima, comparando o vetor de chegadas
+        for (int largura = 1; largura < tamanho; largura <<= 1) {
+            for (int inicio = 0; inicio < tamanho; inicio += largura << 1) {
+                int meio = Math.min(inicio + largura, tamanho);
+                int fim = Math.min(inicio + (largura << 1), tamanho);
+                int a = inicio, b = meio, k = inicio;
+                while (a < meio && b < fim) {
+                    auxiliar[k++] = instanteChegadaMs[ordem[b]] < instanteChegadaMs[ordem[a]] ? ordem[b++] : ordem[a++];
+                }
+                while (a < meio) auxiliar[k++] = ordem[a++];
+                while (b < fim) auxiliar[k++] = ordem[b++];
+            }
+            int[] t = ordem; ordem = auxiliar; auxiliar = t;
+        }
+        return ordem;
+    }
+
+    // ---- estado da simulação (escrito só pelo SimuladorCompacto) ----
+
+    void setEstado(int i, Processo.Estado estado) { estados[i] = (byte) estado.ordinal(); }
+
+    /**
+     * Função do método: Inicia uma fatia simulada (como Processo.iniciarFatiaSimulada).
+     * Entrada: linha, fatia concedida (ms), relógio virtual (ms)
+     * Saída: Duração efetiva da fatia (ms)
+     */
+    int iniciarFatia(int i, int fatia, long relogioMs) {
+        if (inicioPrimeiraExecucao[i] == -1) inicioPrimeiraExecucao[i] = relogioMs;
+        estados[i] = (byte) Processo.Estado.EXECUCAO.ordinal();
+        return Math.min(fatia, tempoExecucao[i] - tempoExecutado[i]);
+    }
+
+    /**
+     * Função do método: Conclui uma fatia simulada (como Processo.concluirFatiaSimulada).
+     * Entrada: linha, duração (ms), relógio virtual (ms)
+     * Saída: true se o processo terminou
+     */
+    boolean concluirFatia(int i, int duracaoMs, long relogioMs) {
+        tempoExecutado[i] += duracaoMs;
+        if (tempoExecutado[i] >= tempoExecucao[i]) {
+            estados[i] = (byte) Processo.Estado.FINALIZADO.ordinal();
+            finalizacao[i] = relogioMs;
+            return true;
+        }
+        estados[i] = (byte) Processo.Estado.SUSPENSO.ordinal();
+        return false;
+    }
+
+    long getParcelaCpuMs(int i, int duracaoMs) {
+        return Math.max(0, Math.round(duracaoMs * (double) cpuIntensidade[i]));
+    }
+
+    // ---- leitura ----
+
+    // Linhas já usadas (inclui as liberadas para reúso)
+    public int tamanho() { return tamanho; }
+
+    public int id(int i) { return ids[i]; }
+
+    public int prioridade(int i) { return prioridades[i]; }
+
+    public int tempoExecucao(int i) { return tempoExecucao[i]; }
+
+    public int tempoExecutado(int i) { return tempoExecutado[i]; }
+
+    public int restante(int i) { return tempoExecucao[i] - tempoExecutado[i]; }
+
+    public Processo.Estado estado(int i) { return ESTADOS[estados[i]]; }
+
+    public long instanteChegadaMs(int i) { return instanteChegadaMs[i]; }
+
+    public long inicioPrimeiraExecucao(int i) { return inicioPrimeiraExecucao[i]; }
+
+    public long finalizacao(int i) { return finalizacao[i]; }
+
+    public double cpuIntensidade(int i) { return cpuIntensidade[i]; }
+
+    public long tempoDeRetorno(int i) { return finalizacao[i] - instanteChegadaMs[i]; }
+
+    public long tempoDeEspera(int i) { return tempoDeRetorno(i) - tempoExecucao[i]; }
+
+    public long tempoDeResposta(int i) { return inicioPrimeiraExecucao[i] - instanteChegadaMs[i]; }
+}
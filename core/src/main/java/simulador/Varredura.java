@@ -0,0 +1,85 @@
+package simulador;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Executa cenários independentes em paralelo num ForkJoinPool. Cada cenário gera
+ * sua própria carga e seu próprio Escalonador, e no modo de tempo real a CPU é
+ * medida pelo ThreadMXBean do thread que executa o cenário, então as execuções
+ * não interferem entre si. Os resultados saem na mesma ordem dos cenários.
+ */
+public class Varredura {
+    private final int paralelismo;
+
+    public Varredura() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public Varredura(int paralelismo) {
+        this.paralelismo = Math.max(1, paralelismo);
+    }
+
+    /**
+     * Função do método: Executa todos os cenários, dividindo o trabalho entre os workers.
+     * Entrada: Lista de cenários
+     * Saída: Resultados na ordem dos cenários
+     */
+    public List<ResultadoCenario> executar(List<Cenario> cenarios) {
+        return executar(cenarios, Cenario::executar);
+    }
+
+    /**
+     * Função do método: Executa todos os cenários com o motor informado (ex.: Cenario::executarCompacto).
+     * Entrada: Lista de cenários, função que executa um cenário
+     * Saída: Resultados na ordem dos cenários
+     */
+    public List<ResultadoCenario> executar(List<Cenario> cenarios, Function<Cenario, ResultadoCenario> motor) {
+        ResultadoCenario[] resultados = new ResultadoCenario[cenarios.size()];
+        if (paralelismo == 1) {
+            for (int i = 0; i < resultados.length; i++) resultados[i] = motor.apply(cenarios.get(i));
+            return Arrays.asList(resultados);
+        }
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            pool.invoke(new Tarefa(cenarios, motor, resultados, 0, resultados.length));
+        } finally {
+            pool.shutdown();
+        }
+        return Arrays.asList(resultados);
+    }
+
+    // Divide a faixa de cenários ao meio até sobrar um por tarefa
+    private static final class Tarefa extends RecursiveAction {
+        private final List<Cenario> cenarios;
+        private final Function<Cenario, ResultadoCenario> motor;
+        private final ResultadoCenario[] resultados;
+        private final int inicio, fim;
+
+        Tarefa(List<Cenario> cenarios, Function<Cenario, ResultadoCenario> motor,
+               ResultadoCenario[] resultados, int inicio, int fim) {
+            this.cenarios = cenarios;
+            this.motor = motor;
+            this.resultados = resultados;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio == 1) {
+                resultados[inicio] = motor.apply(cenarios.get(inicio));
+                return;
+            }
+            if (fim <= inicio) return;
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Tarefa(cenarios, motor, resultados, inicio, meio),
+                    new Tarefa(cenarios, motor, resultados, meio, fim));
+        }
+    }
+
+    public int getParalelismo() { return paralelismo; }
+}
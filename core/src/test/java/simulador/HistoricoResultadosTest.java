@@ -0,0 +1,109 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HistoricoResultadosTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static ResultadoCenario executar(Escalonador.Algoritmo algoritmo, int seed) {
+        return new Cenario(algoritmo, 100, 8, seed, 5, 1, Escalonador.ModoExecucao.TEMPO_SIMULADO,
+                Avaliador.ModeloChegada.SIMULTANEA, 1.0).executar();
+    }
+
+    // Acrescenta bytes ao fim de uma coluna, como uma gravação interrompida antes de proc_fim
+    private void sujar(String coluna, int bytes) throws IOException {
+        Files.write(diretorio.resolve(coluna), new byte[bytes], StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void reabrirDescartaExecucaoSemConfirmacao() throws IOException {
+        List<Processo> carga = Avaliador.gerarCargaDeTrabalho(5, 7);
+        Escalonador escalonador = new Escalonador(Escalonador.Algoritmo.ROUND_ROBIN, 100, carga, Cenario.SILENCIOSO, 5,
+                Escalonador.ModoExecucao.TEMPO_SIMULADO, 1);
+        escalonador.escalonar();
+        ResultadoCenario sjf = executar(Escalonador.Algoritmo.SJF, 1);
+        try (HistoricoResultados h = HistoricoResultados.abrir(diretorio)) {
+            h.registrar("interface", new Avaliador(escalonador), carga);
+            h.registrar(sjf);
+        }
+
+        // terceira execução gravada pela metade: dados de processos, nome e métricas, sem proc_fim
+        sujar("proc_id.i32", 3 * 4);
+        sujar("proc_retorno.i64", 3 * 8);
+        sujar("proc_espera.i64", 3 * 8);
+        sujar("proc_resposta.i64", 3 * 8);
+        sujar("nome.utf8", 11);
+        sujar("nome.idx", 8);
+        for (HistoricoResultados.Metrica m : HistoricoResultados.Metrica.values()) {
+            sujar(m.name().toLowerCase(java.util.Locale.ROOT) + ".f64", 8);
+        }
+
+        ResultadoCenario rr = executar(Escalonador.Algoritmo.ROUND_ROBIN, 2);
+        try (HistoricoResultados h = HistoricoResultados.abrir(diretorio)) {
+            assertEquals(2, h.tamanho());
+            assertEquals(5 * 4, Files.size(diretorio.resolve("proc_id.i32")));
+            assertEquals(2 * 8, Files.size(diretorio.resolve("retorno_medio_ms.f64")));
+            assertEquals(("interface" + sjf.cenario().nome()).length(), Files.size(diretorio.resolve("nome.utf8")));
+
+            assertEquals(2, h.registrar(rr));
+            assertEquals("interface", h.nome(0));
+            assertEquals(5, h.numProcessos(0));
+            assertEquals(sjf.cenario().nome(), h.nome(1));
+            assertEquals(0, h.numProcessos(1));
+            assertEquals(rr.cenario().nome(), h.nome(2));
+            assertEquals(rr.tempoMedioRetornoMs(), h.valor(HistoricoResultados.Metrica.RETORNO_MEDIO_MS, 2));
+            for (int i = 0; i < 5; i++) {
+                Processo p = carga.get(i);
+                assertEquals(p.getIdProcesso(), h.idProcesso(i));
+                assertEquals(p.getTempoDeRetorno(), h.tempoDeRetorno(i));
+            }
+        }
+    }
+
+    @Test
+    void registrarTodosConfirmaOLoteInteiro() throws IOException {
+        List<ResultadoCenario> lote = List.of(executar(Escalonador.Algoritmo.SJF, 1),
+                executar(Escalonador.Algoritmo.SRTF, 1), executar(Escalonador.Algoritmo.SJF, 1));
+        try (HistoricoResultados h = HistoricoResultados.abrir(diretorio)) {
+            assertEquals(0, h.registrarTodos(lote));
+            assertEquals(3, h.registrarTodos(lote));
+        }
+        try (HistoricoResultados h = HistoricoResultados.abrir(diretorio)) {
+            assertEquals(6, h.tamanho());
+            for (int i = 0; i < 6; i++) {
+                ResultadoCenario r = lote.get(i % 3);
+                assertEquals(r.cenario().nome(), h.nome(i));
+                assertEquals(r.tempoTotalMs(), h.valor(HistoricoResultados.Metrica.TEMPO_TOTAL_MS, i));
+            }
+            Map<String, Integer> ultimas = h.ultimasPorNome(0);
+            assertEquals(List.of(lote.get(1).cenario().nome(), lote.get(0).cenario().nome()),
+                    List.copyOf(ultimas.keySet()));
+            assertEquals(List.of(4, 5), List.copyOf(ultimas.values()));
+        }
+    }
+
+    @Test
+    void segundoEscritorFalha() throws IOException {
+        try (HistoricoResultados h = HistoricoResultados.abrir(diretorio)) {
+            h.registrar(executar(Escalonador.Algoritmo.SJF, 1));
+            assertThrows(IOException.class, () -> HistoricoResultados.abrir(diretorio));
+            assertEquals(1, h.tamanho()); // o escritor original segue intacto
+        }
+        try (HistoricoResultados h = HistoricoResultados.abrir(diretorio)) { // lock liberado no close
+            assertEquals(1, h.tamanho());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LeitorTraceTest {
+
+    @TempDir
+    Path diretorio;
+
+    // Registro lido, para comparar leituras (cpu como float: é o que o formato binário guarda)
+    private record Registro(int id, long chegadaMs, int burstMs, int prioridade, float cpu) { }
+
+    private static List<Registro> ler(LeitorTrace leitor) throws IOException {
+        List<Registro> registros = new ArrayList<>();
+        try (leitor) {
+            while (leitor.proximo()) {
+                registros.add(new Registro(leitor.id(), leitor.chegadaMs(), leitor.burstMs(), leitor.prioridade(),
+                        (float) leitor.cpuIntensidade()));
+            }
+        }
+        return registros;
+    }
+
+    private Path csv(String nome, String conteudo) throws IOException {
+        return Files.writeString(diretorio.resolve(nome), conteudo, StandardCharsets.UTF_8);
+    }
+
+    // Linhas de tamanhos variados, para que as quebras de janela caiam em pontos diferentes
+    private Path csvGrande(int registros) throws IOException {
+        StringBuilder sb = new StringBuilder("id,chegada_ms,burst_ms,prioridade,cpu\n");
+        for (int i = 1; i <= registros; i++) {
+            sb.append(i).append(',').append(i * 37L).append(',').append(1 + i % 9000).append(',').append(1 + i % 10);
+            if (i % 3 != 0) sb.append(',').append(i % 7 == 0 ? "1" : "0." + (i % 100));
+            sb.append(i % 5 == 0 ? "\r\n" : "\n");
+        }
+        return csv("grande.csv", sb.toString());
+    }
+
+    @Test
+    void csvConvertidoParaBinarioLeOsMesmosRegistros() throws IOException {
+        Path origem = csv("trace.csv", String.join("\n",
+                "# trace de teste",
+                "id,chegada_ms,burst_ms,prioridade,cpu",
+                "",
+                "1,0,1500,3,0.25",
+                "2, 10, 200, 9",
+                "3,10,7,1,1.0\r",
+                "# comentário no meio",
+                "4,4000000000,123456,10,0.999",
+                ""));
+        Path destino = diretorio.resolve("trace.sotr");
+
+        assertEquals(4, LeitorTrace.converterParaBinario(origem, destino));
+
+        List<Registro> esperado = List.of(
+                new Registro(1, 0, 1500, 3, 0.25f),
+                new Registro(2, 10, 200, 9, 1.0f),
+                new Registro(3, 10, 7, 1, 1.0f),
+                new Registro(4, 4_000_000_000L, 123456, 10, 0.999f));
+        try (LeitorTrace texto = LeitorTrace.abrir(origem)) {
+            assertFalse(texto.isBinario());
+        }
+        try (LeitorTrace binario = LeitorTrace.abrir(destino)) {
+            assertTrue(binario.isBinario());
+        }
+        assertEquals(esperado, ler(LeitorTrace.abrir(origem)));
+        assertEquals(esperado, ler(LeitorTrace.abrir(destino)));
+        assertEquals(esperado.subList(0, 2), ler(LeitorTrace.abrir(destino, 2)));
+    }
+
+    @Test
+    void registrosQueAtravessamAJanelaSaoLidosInteiros() throws IOException {
+        Path origem = csvGrande(500);
+        Path destino = diretorio.resolve("grande.sotr");
+        LeitorTrace.converterParaBinario(origem, destino);
+        List<Registro> esperado = ler(LeitorTrace.abrir(origem));
+        assertEquals(500, esperado.size());
+
+        // janelas pouco maiores que a maior linha (o cabeçalho, 38 bytes) e que um registro binário
+        // (24 bytes): as quebras cortam linhas e registros em todas as posições
+        for (int janela = 38; janela <= 120; janela++) {
+            assertEquals(esperado, ler(LeitorTrace.abrir(origem, 0, janela)), "CSV, janela " + janela);
+        }
+        for (int janela = 24; janela <= 100; janela++) {
+            assertEquals(esperado, ler(LeitorTrace.abrir(destino, 0, janela)), "binário, janela " + janela);
+        }
+    }
+
+    @Test
+    void linhaMaiorQueAJanelaEhRejeitada() throws IOException {
+        Path origem = csv("longa.csv", "1,0,100,1\n2,0,100,1,0.123456789012345678901234567890\n");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ler(LeitorTrace.abrir(origem, 0, 32)));
+        assertTrue(e.getMessage().contains("linha 2"), e.getMessage());
+        assertTrue(e.getMessage().contains("linha maior que 32 bytes"), e.getMessage());
+    }
+
+    @Test
+    void binarioInterrompidoUsaOsRegistrosCompletos() throws IOException {
+        Path origem = csvGrande(10);
+        Path destino = diretorio.resolve("interrompido.sotr");
+        LeitorTrace.converterParaBinario(origem, destino);
+        // como se a conversão parasse no meio do registro 8, antes de gravar a quantidade
+        byte[] bytes = Files.readAllBytes(destino);
+        byte[] cortado = Arrays.copyOf(bytes, 16 + 7 * 24 + 10);
+        Arrays.fill(cortado, 8, 16, (byte) 0);
+        Files.write(destino, cortado);
+
+        assertEquals(ler(LeitorTrace.abrir(origem)).subList(0, 7), ler(LeitorTrace.abrir(destino)));
+    }
+
+    @Test
+    void errosDeFormatoIndicamALinha() throws IOException {
+        Path foraDeOrdem = csv("ordem.csv", "id,chegada_ms,burst_ms,prioridade\n1,100,5,1\n2,50,5,1\n");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ler(LeitorTrace.abrir(foraDeOrdem)));
+        assertTrue(e.getMessage().contains("linha 3"), e.getMessage());
+
+        Path campoInvalido = csv("campo.csv", "1,0,abc,1\n");
+        e = assertThrows(IllegalArgumentException.class, () -> ler(LeitorTrace.abrir(campoInvalido)));
+        assertTrue(e.getMessage().contains("burst_ms"), e.getMessage());
+    }
+}
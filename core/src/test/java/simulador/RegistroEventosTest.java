@@ -0,0 +1,75 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class RegistroEventosTest {
+
+    // Todos os campos derivam da sequência: uma cópia com campos de dois eventos fica inconsistente
+    private static long registrar(RegistroEventos r, long i) {
+        return r.registrar(RegistroEventos.Tipo.values()[(int) (i % 5)], (int) i, (int) (i % 7), i * 10,
+                (int) i + 1, (int) i + 2, (int) i + 3);
+    }
+
+    private static boolean consistente(RegistroEventos.Evento e) {
+        long s = e.sequencia();
+        return e.tipo() == RegistroEventos.Tipo.values()[(int) (s % 5)] && e.processo() == (int) s
+                && e.nucleo() == (int) (s % 7) && e.instanteMs() == s * 10
+                && e.valorA() == (int) s + 1 && e.valorB() == (int) s + 2 && e.valorC() == (int) s + 3;
+    }
+
+    @Test
+    void leitorUltrapassadoNaoRecebeEventosSobrescritos() {
+        RegistroEventos r = new RegistroEventos(4);
+        for (long i = 0; i < 10; i++) assertEquals(i, registrar(r, i));
+
+        RegistroEventos.Evento e = new RegistroEventos.Evento();
+        for (long s = 0; s < 6; s++) assertFalse(r.copiar(s, e), "sequência " + s + " já foi sobrescrita");
+        for (long s = 6; s < 10; s++) {
+            assertTrue(r.copiar(s, e));
+            assertEquals(s, e.sequencia());
+            assertTrue(consistente(e));
+        }
+        assertFalse(r.copiar(10, e)); // ainda não escrita
+
+        // um leitor parado na sequência 2 recomeça do mais antigo disponível
+        List<Long> lidos = new ArrayList<>();
+        assertEquals(10, r.lerDesde(2, ev -> lidos.add(ev.sequencia())));
+        assertEquals(List.of(6L, 7L, 8L, 9L), lidos);
+    }
+
+    @Test
+    void escritorQueDaAVoltaDuranteACopiaNaoProduzEventoMisturado() throws InterruptedException {
+        // buffer mínimo: o leitor mira a posição mais antiga, a próxima a ser sobrescrita
+        RegistroEventos r = new RegistroEventos(2);
+        AtomicBoolean parar = new AtomicBoolean();
+        Thread escritor = new Thread(() -> {
+            for (long i = 0; !parar.get(); i++) registrar(r, i);
+        });
+        escritor.start();
+
+        RegistroEventos.Evento e = new RegistroEventos.Evento();
+        long aceitos = 0, misturados = 0;
+        long fim = System.nanoTime() + 500_000_000L;
+        try {
+            while (System.nanoTime() < fim) {
+                if (r.copiar(r.getPrimeiraDisponivel(), e)) {
+                    aceitos++;
+                    if (!consistente(e)) misturados++;
+                }
+            }
+        } finally {
+            parar.set(true);
+            escritor.join();
+        }
+        assertEquals(0, misturados, "cópias aceitas com campos de eventos diferentes");
+        assertTrue(aceitos > 0);
+    }
+}
@@ -0,0 +1,85 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * O motor compacto deve produzir, linha a linha, o mesmo CSV que o Escalonador
+ * em tempo simulado: mesma carga (um só gerador) e mesmas regras de escalonamento.
+ */
+class SimuladorCompactoTest {
+
+    private static final List<Escalonador.Algoritmo> SUPORTADOS = List.of(Escalonador.Algoritmo.ROUND_ROBIN,
+            Escalonador.Algoritmo.PRIORIDADE, Escalonador.Algoritmo.PRIORIDADE_PREEMPTIVA,
+            Escalonador.Algoritmo.SJF, Escalonador.Algoritmo.SRTF);
+
+    private static void comparar(List<Cenario> cenarios) {
+        for (Cenario c : cenarios) {
+            assertEquals(c.executar().paraCsv(), c.executarCompacto().paraCsv(), c.nome());
+        }
+    }
+
+    @Test
+    void cargaLegadaTemOMesmoResultadoNosDoisMotores() {
+        List<Cenario> cenarios = new ArrayList<>();
+        for (Escalonador.Algoritmo alg : SUPORTADOS) {
+            for (int quantum : new int[] {100, 1000}) {
+                for (int processos : new int[] {1, 40}) {
+                    for (int seed : new int[] {1, 2}) {
+                        for (int cpus : new int[] {1, 3}) {
+                            for (int overhead : new int[] {0, 5}) {
+                                for (Avaliador.ModeloChegada chegada : Avaliador.ModeloChegada.values()) {
+                                    cenarios.add(new Cenario(alg, quantum, processos, seed, overhead, cpus,
+                                            Escalonador.ModoExecucao.TEMPO_SIMULADO, chegada, 0.5));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        comparar(cenarios);
+    }
+
+    @Test
+    void cargaSorteadaTemOMesmoResultadoNosDoisMotores() {
+        ModeloCarga carga = ModeloCarga.ler("burst=pareto:200:1.3:60000;intervalo=exp:300;cpu=uniforme:0.2:1;correlacao=0.5");
+        List<Cenario> cenarios = new ArrayList<>();
+        for (Escalonador.Algoritmo alg : SUPORTADOS) {
+            for (int cpus : new int[] {1, 2}) {
+                cenarios.add(new Cenario(alg, 200, 300, 9, 5, cpus, Escalonador.ModoExecucao.TEMPO_SIMULADO,
+                        Avaliador.ModeloChegada.SIMULTANEA, 1.0, null, carga));
+            }
+        }
+        comparar(cenarios);
+    }
+
+    @Test
+    void tabelaGeradaIgualALista() {
+        for (Avaliador.ModeloChegada chegada : Avaliador.ModeloChegada.values()) {
+            List<Processo> lista = Avaliador.gerarCargaDeTrabalho(200, 11, chegada, 3.0);
+            TabelaProcessos tabela = TabelaProcessos.gerar(200, 11, chegada, 3.0);
+            assertEquals(lista.size(), tabela.tamanho());
+            for (int i = 0; i < lista.size(); i++) {
+                Processo p = lista.get(i);
+                assertEquals(p.getIdProcesso(), tabela.id(i));
+                assertEquals(p.getPrioridade(), tabela.prioridade(i));
+                assertEquals(p.getTempoExecucao(), tabela.tempoExecucao(i));
+                assertEquals(p.getInstanteChegadaMs(), tabela.instanteChegadaMs(i));
+                assertEquals((float) p.getCpuIntensidade(), (float) tabela.cpuIntensidade(i));
+            }
+        }
+    }
+
+    @Test
+    void motorCompactoRecusaTempoReal() {
+        Cenario real = new Cenario(Escalonador.Algoritmo.ROUND_ROBIN, 100, 5, 1, 5, 1,
+                Escalonador.ModoExecucao.TEMPO_REAL, Avaliador.ModeloChegada.SIMULTANEA, 1.0);
+        assertThrows(IllegalArgumentException.class, real::executarCompacto);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Interface Swing do simulador, sobre o núcleo headless.
+ */
+module simulador.gui {
+    requires java.desktop;
+    requires simulador.core;
+
+    exports simulador.gui;
+}
@@ -0,0 +1,262 @@
+package simulador.gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import simulador.*;
+
+public class InterfaceGrafica extends JFrame {
+    // Faixa da taxa de chegada (proc/s) aceita pelo spinner
+    private static final double TAXA_MINIMA = 0.1;
+    private static final double TAXA_MAXIMA = 100.0;
+
+    private PainelSimulacao painelSimulacao;
+    private PainelMetricas painelMetricas;
+    private JComboBox<Escalonador.Algoritmo> comboAlgoritmo;
+    private JSpinner spinnerQuantum;
+    private JSpinner spinnerNumProcessos; // <-- NOVO
+    private JSpinner spinnerSeed;         // <-- NOVO
+    private JCheckBox checkTempoSimulado;
+    private JSpinner spinnerCpus;
+    private JComboBox<Avaliador.ModeloChegada> comboChegada;
+    private JSpinner spinnerTaxaChegada;
+    private JCheckBox checkPararAoConvergir;
+    private JButton btnIniciar;
+    private JButton btnParar;
+    private JButton btnLimparHistorico;
+    private Escalonador escalonadorAtual; // simulação em andamento, para o botão Parar
+
+    public InterfaceGrafica() {
+        setTitle("Simulador de Escalonador de Processos");
+        setSize(1200, 800);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLocationRelativeTo(null);
+
+        // Painel de Controle
+        JPanel painelControle = new JPanel(new FlowLayout(FlowLayout.LEFT));
+
+        painelControle.add(new JLabel("Algoritmo:"));
+        comboAlgoritmo = new JComboBox<>(Escalonador.Algoritmo.values());
+        painelControle.add(comboAlgoritmo);
+
+        painelControle.add(new JLabel("Quantum (ms):"));
+        spinnerQuantum = new JSpinner(new SpinnerNumberModel(1000, 100, 5000, 100));
+        painelControle.add(spinnerQuantum);
+
+        // --- NOVOS CAMPOS ADICIONADOS AQUI ---
+        painelControle.add(new JLabel("Nº de Processos:"));
+        spinnerNumProcessos = new JSpinner(new SpinnerNumberModel(5, 1, 100_000, 1)); // Valor inicial 5, min 1, max 100000
+        painelControle.add(spinnerNumProcessos);
+
+        painelControle.add(new JLabel("Seed:"));
+        spinnerSeed = new JSpinner(new SpinnerNumberModel(42, 0, Integer.MAX_VALUE, 1)); // Valor inicial 42
+        painelControle.add(spinnerSeed);
+        // --- FIM DOS NOVOS CAMPOS ---
+
+        painelControle.add(new JLabel("CPUs:"));
+        spinnerCpus = new JSpinner(new SpinnerNumberModel(1, 1, 64, 1));
+        painelControle.add(spinnerCpus);
+
+        painelControle.add(new JLabel("Chegadas:"));
+        comboChegada = new JComboBox<>(Avaliador.ModeloChegada.values());
+        painelControle.add(comboChegada);
+
+        painelControle.add(new JLabel("Taxa (proc/s):"));
+        // Avaliador rejeita taxas <= 0: o spinner fica em [TAXA_MINIMA, TAXA_MAXIMA]
+        spinnerTaxaChegada = new JSpinner(new SpinnerNumberModel(1.0, TAXA_MINIMA, TAXA_MAXIMA, 0.1));
+        painelControle.add(spinnerTaxaChegada);
+
+        checkTempoSimulado = new JCheckBox("Tempo simulado");
+        checkTempoSimulado.setToolTipText("Avança um relógio virtual em vez de executar as fatias em tempo real");
+        painelControle.add(checkTempoSimulado);
+
+        checkPararAoConvergir = new JCheckBox("Parar ao convergir");
+        checkPararAoConvergir.setToolTipText("Interrompe a simulação quando a média do tempo de retorno se estabiliza");
+        painelControle.add(checkPararAoConvergir);
+
+        btnIniciar = new JButton("Iniciar Simulação");
+        painelControle.add(btnIniciar);
+
+        btnParar = new JButton("Parar");
+        btnParar.setEnabled(false);
+        painelControle.add(btnParar);
+
+        btnLimparHistorico = new JButton("Limpar Histórico");
+        painelControle.add(btnLimparHistorico);
+
+        // Painéis Principais
+        painelSimulacao = new PainelSimulacao();
+        painelMetricas = new PainelMetricas(abrirHistorico());
+
+        JSplitPane splitPanePrincipal = new JSplitPane(
+                JSplitPane.HORIZONTAL_SPLIT,
+                painelSimulacao,
+                painelMetricas
+        );
+        splitPanePrincipal.setResizeWeight(0.6);
+
+        add(painelControle, BorderLayout.NORTH);
+        add(splitPanePrincipal, BorderLayout.CENTER);
+
+        // Eventos
+        btnIniciar.addActionListener(e -> iniciarSimulacao());
+        btnParar.addActionListener(e -> {
+            if (escalonadorAtual != null) escalonadorAtual.interromper();
+        });
+        btnLimparHistorico.addActionListener(e -> painelMetricas.limparHistorico());
+    }
+
+    /**
+     * Função do método: Abre o histórico de execuções em ~/.simulador-so/historico.
+     * Entrada: Nenhuma
+     * Saída: Histórico, ou null se não foi possível abri-lo (a interface segue sem ele)
+     */
+    private static HistoricoResultados abrirHistorico() {
+        Path diretorio = Path.of(System.getProperty("user.home"), ".simulador-so", "historico");
+        try {
+            return HistoricoResultados.abrir(diretorio);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Histórico indisponível (" + diretorio + "): " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void iniciarSimulacao() {
+        // Desabilita todos os controles
+        btnIniciar.setEnabled(false);
+        comboAlgoritmo.setEnabled(false);
+        spinnerQuantum.setEnabled(false);
+        spinnerNumProcessos.setEnabled(false); // <-- NOVO
+        spinnerSeed.setEnabled(false);         // <-- NOVO
+        checkTempoSimulado.setEnabled(false);
+        spinnerCpus.setEnabled(false);
+        comboChegada.setEnabled(false);
+        spinnerTaxaChegada.setEnabled(false);
+        checkPararAoConvergir.setEnabled(false);
+
+        // Lê os valores dos novos campos
+        int numProcessos = (int) spinnerNumProcessos.getValue();
+        int seed = (int) spinnerSeed.getValue();
+
+        Avaliador.ModeloChegada modeloChegada = (Avaliador.ModeloChegada) comboChegada.getSelectedItem();
+        double taxaChegada = (double) spinnerTaxaChegada.getValue();
+
+        // Gera a carga de trabalho usando os novos parâmetros
+        List<Processo> cargaDeTrabalho = modeloChegada == Avaliador.ModeloChegada.SIMULTANEA
+                ? Avaliador.gerarCargaDeTrabalho(numProcessos, seed)
+                : Avaliador.gerarCargaDeTrabalho(numProcessos, seed, modeloChegada, taxaChegada);
+        painelSimulacao.prepararParaSimulacao(cargaDeTrabalho);
+
+        Escalonador.Algoritmo algoritmo = (Escalonador.Algoritmo) comboAlgoritmo.getSelectedItem();
+        int quantum = (int) spinnerQuantum.getValue();
+        int numCpus = (int) spinnerCpus.getValue();
+        Escalonador.ModoExecucao modo = checkTempoSimulado.isSelected()
+                ? Escalonador.ModoExecucao.TEMPO_SIMULADO
+                : Escalonador.ModoExecucao.TEMPO_REAL;
+
+        // Nome do cenário para identificação
+        String nomeCenario = String.format("%s (Q=%dms, P=%d, S=%d, CPUs=%d%s%s)",
+                algoritmo.toString(), quantum, numProcessos, seed, numCpus,
+                modeloChegada == Avaliador.ModeloChegada.SIMULTANEA ? ""
+                        : String.format(", %s %.1f/s", modeloChegada, taxaChegada),
+                modo == Escalonador.ModoExecucao.TEMPO_SIMULADO ? ", SIM" : "");
+
+        // Métricas parciais, atualizadas pelo próprio escalonador a cada evento
+        MetricasOnline metricasOnline = new MetricasOnline(numCpus, cargaDeTrabalho.size());
+
+        // Eventos do escalonador são lidos em lote pelo painel (~30 Hz), não um invokeLater por evento
+        Escalonador.EscalonadorCallback callback = new Escalonador.EscalonadorCallback() {
+            @Override
+            public void onLog(String message) {
+                SwingUtilities.invokeLater(() -> painelSimulacao.adicionarLog(message));
+            }
+
+            @Override
+            public void onProcessoIniciado(Processo p) { }
+
+            @Override
+            public void onProcessoFinalizado(Processo p) {
+                metricasOnline.onProcessoFinalizado(p);
+            }
+
+            @Override
+            public void onEvento(RegistroEventos registro, long sequencia) {
+                metricasOnline.onEvento(registro, sequencia);
+            }
+
+            @Override
+            public void onConcluido() {
+                // Implementação vazia
+            }
+        };
+
+        Escalonador escalonador = new Escalonador(algoritmo, quantum, cargaDeTrabalho, callback, 5, modo, numCpus);
+        escalonador.setMonitor(MonitorEscalonador.para(algoritmo)); // visível no jconsole
+        escalonador.setParametrosFila(ParametrosFila.PADRAO.comSementeLoteria(seed)); // sorteios da loteria seguem a semente
+        painelSimulacao.acompanhar(escalonador.getRegistroEventos());
+
+        // Painel "Ao Vivo" a ~4 Hz; interrompe se as métricas convergirem e o usuário pediu
+        boolean pararAoConvergir = checkPararAoConvergir.isSelected();
+        Timer timerParcial = new Timer(250, e -> {
+            MetricasOnline.Instantaneo parcial = metricasOnline.instantaneo();
+            painelMetricas.exibirParcial(parcial, nomeCenario);
+            if (pararAoConvergir && parcial.convergiu() && !escalonador.isInterrompido()) {
+                escalonador.interromper();
+                painelSimulacao.adicionarLog("Métricas convergiram: simulação interrompida");
+            }
+        });
+        escalonadorAtual = escalonador;
+        btnParar.setEnabled(true);
+        painelMetricas.mostrarParcial();
+        timerParcial.start();
+
+        SwingWorker<Void, String> worker = new SwingWorker<>() {
+            @Override
+            protected Void doInBackground() {
+                escalonador.escalonar();
+
+                Avaliador avaliador = new Avaliador(escalonador);
+
+                SwingUtilities.invokeLater(() ->
+                        painelMetricas.exibirMetricas(avaliador, escalonador.getProcessos(), nomeCenario,
+                                escalonador.getLinhaDoTempo())
+                );
+
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                timerParcial.stop();
+                btnParar.setEnabled(false);
+                escalonadorAtual = null;
+                // Habilita os controles novamente
+                btnIniciar.setEnabled(true);
+                comboAlgoritmo.setEnabled(true);
+                spinnerQuantum.setEnabled(true);
+                spinnerNumProcessos.setEnabled(true); // <-- NOVO
+                spinnerSeed.setEnabled(true);         // <-- NOVO
+                checkTempoSimulado.setEnabled(true);
+                spinnerCpus.setEnabled(true);
+                comboChegada.setEnabled(true);
+                spinnerTaxaChegada.setEnabled(true);
+                checkPararAoConvergir.setEnabled(true);
+                painelSimulacao.encerrarAcompanhamento();
+                painelSimulacao.adicionarLog(escalonador.isInterrompido()
+                        ? "\n■ SIMULAÇÃO INTERROMPIDA (métricas só dos processos concluídos)"
+                        : "\n✓ SIMULAÇÃO CONCLUÍDA");
+                painelSimulacao.adicionarLog("Execute outro cenário para comparação\n");
+            }
+        };
+
+        worker.execute();
+    }
+
+    public static void main(String[] args) {
+        SwingUtilities.invokeLater(() -> new InterfaceGrafica().setVisible(true));
+    }
+}
\ No newline at end of file
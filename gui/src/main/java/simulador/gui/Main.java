@@ -1,3 +1,5 @@
+package simulador.gui;
+
 public class Main {
     public static void main(String[] args) {
         // Invoca a interface gráfica na Event Dispatch Thread (EDT) do Swing
@@ -0,0 +1,192 @@
+package simulador.gui;
+
+import javax.swing.AbstractListModel;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Modelo do log de execução: buffer circular com no máximo "capacidade" linhas.
+ * Quando cheio, as linhas mais antigas são descartadas; opcionalmente todas as
+ * linhas também são gravadas em arquivo, para que o log completo não se perca.
+ * Acessado apenas pela thread da interface (EDT).
+ */
+class ModeloLog extends AbstractListModel<String> {
+
+    private String[] linhas;
+    private int inicio;   // índice da linha mais antiga
+    private int tamanho;
+    private long descartadas;
+    private BufferedWriter arquivo;
+    private Path caminhoArquivo;
+
+    ModeloLog(int capacidade) {
+        linhas = new String[Math.max(1, capacidade)];
+    }
+
+    @Override
+    public int getSize() {
+        return tamanho;
+    }
+
+    @Override
+    public String getElementAt(int indice) {
+        return linhas[(inicio + indice) % linhas.length];
+    }
+
+    int getCapacidade() {
+        return linhas.length;
+    }
+
+    long getDescartadas() {
+        return descartadas;
+    }
+
+    Path getCaminhoArquivo() {
+        return caminhoArquivo;
+    }
+
+    /**
+     * Função do método: Acrescenta uma mensagem (que pode ter várias linhas) ao log.
+     * Entrada: Mensagem
+     * Saída: Nenhuma (notifica a lista)
+     */
+    void adicionar(String mensagem) {
+        adicionarTodas(List.of(mensagem.split("\n", -1)));
+    }
+
+    /**
+     * Função do método: Acrescenta um lote de linhas, descartando as mais antigas se
+     * a capacidade for excedida, e emite no máximo dois eventos para a lista.
+     * Entrada: Linhas a acrescentar
+     * Saída: Nenhuma (notifica a lista)
+     */
+    void adicionarTodas(List<String> novas) {
+        if (novas.isEmpty()) return;
+        gravar(novas);
+
+        int capacidade = linhas.length;
+        int tamanhoAnterior = tamanho;
+        int ignoradas = Math.max(0, novas.size() - capacidade); // nem chegam ao buffer
+        int removidas = 0;
+        for (int i = ignoradas; i < novas.size(); i++) {
+            if (tamanho == capacidade) {
+                linhas[inicio] = novas.get(i);
+                inicio = (inicio + 1) % capacidade;
+                removidas++;
+            } else {
+                linhas[(inicio + tamanho) % capacidade] = novas.get(i);
+                tamanho++;
+            }
+        }
+        descartadas += removidas + ignoradas;
+
+        if (removidas > 0) {
+            fireIntervalRemoved(this, 0, Math.min(removidas, tamanhoAnterior) - 1);
+        }
+        int mantidas = tamanhoAnterior - Math.min(removidas, tamanhoAnterior);
+        fireIntervalAdded(this, mantidas, tamanho - 1);
+    }
+
+    /**
+     * Função do método: Remove todas as linhas do buffer (o arquivo, se houver, é mantido).
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (notifica a lista)
+     */
+    void limpar() {
+        int tamanhoAnterior = tamanho;
+        Arrays.fill(linhas, null);
+        inicio = 0;
+        tamanho = 0;
+        descartadas = 0;
+        if (tamanhoAnterior > 0) {
+            fireIntervalRemoved(this, 0, tamanhoAnterior - 1);
+        }
+    }
+
+    /**
+     * Função do método: Altera a capacidade, preservando as linhas mais recentes.
+     * Entrada: Nova capacidade (em linhas)
+     * Saída: Nenhuma (notifica a lista)
+     */
+    void setCapacidade(int capacidade) {
+        capacidade = Math.max(1, capacidade);
+        if (capacidade == linhas.length) return;
+        int mantidas = Math.min(tamanho, capacidade);
+        String[] novo = new String[capacidade];
+        for (int i = 0; i < mantidas; i++) {
+            novo[i] = getElementAt(tamanho - mantidas + i);
+        }
+        int tamanhoAnterior = tamanho;
+        descartadas += tamanhoAnterior - mantidas;
+        linhas = novo;
+        inicio = 0;
+        tamanho = mantidas;
+        if (tamanhoAnterior > mantidas) {
+            fireIntervalRemoved(this, 0, tamanhoAnterior - mantidas - 1);
+        }
+    }
+
+    /**
+     * Função do método: Passa a gravar todas as linhas novas no arquivo informado.
+     * Entrada: Caminho do arquivo (sobrescrito)
+     * Saída: Nenhuma
+     */
+    void gravarEm(Path caminho) throws IOException {
+        fecharArquivo();
+        arquivo = Files.newBufferedWriter(caminho, StandardCharsets.UTF_8);
+        caminhoArquivo = caminho;
+    }
+
+    /**
+     * Função do método: Descarrega e fecha o arquivo de log, se houver.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma
+     */
+    void fecharArquivo() {
+        if (arquivo == null) return;
+        try {
+            arquivo.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar log em " + caminhoArquivo + ": " + e.getMessage());
+        }
+        arquivo = null;
+        caminhoArquivo = null;
+    }
+
+    /**
+     * Função do método: Descarrega o que estiver em buffer para o arquivo.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma
+     */
+    void descarregar() {
+        if (arquivo == null) return;
+        try {
+            arquivo.flush();
+        } catch (IOException e) {
+            falhaDeGravacao(e);
+        }
+    }
+
+    private void gravar(List<String> novas) {
+        if (arquivo == null) return;
+        try {
+            for (String linha : novas) {
+                arquivo.write(linha);
+                arquivo.newLine();
+            }
+        } catch (IOException e) {
+            falhaDeGravacao(e);
+        }
+    }
+
+    // Uma falha de disco não deve derrubar a simulação: para de gravar e segue só em memória
+    private void falhaDeGravacao(IOException e) {
+        System.err.println("Erro ao gravar log em " + caminhoArquivo + ": " + e.getMessage());
+        fecharArquivo();
+    }
+}
@@ -0,0 +1,86 @@
+package simulador.gui;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+import java.util.List;
+
+import simulador.*;
+
+/**
+ * Métricas individuais de cada processo (retorno, espera e resposta) em
+ * vetores primitivos, ordenados por id. Substitui o texto com uma linha por
+ * processo: a JTable só formata as linhas visíveis, e os gráficos leem os
+ * mesmos vetores. Acessado apenas pela EDT.
+ */
+class ModeloMetricasProcessos extends AbstractTableModel {
+
+    private static final String[] COLUNAS = {"Processo", "T. Retorno (ms)", "T. Espera (ms)", "T. Resposta (ms)"};
+
+    private int[] ids = new int[0];
+    private long[] retornos = new long[0];
+    private long[] esperas = new long[0];
+    private long[] respostas = new long[0];
+
+    /**
+     * Função do método: Copia as métricas dos processos, em ordem de id (sem alterar a lista).
+     * Entrada: Lista de processos
+     * Saída: Nenhuma (notifica a tabela)
+     */
+    void carregar(List<Processo> processos) {
+        int n = processos.size();
+        // ordena pares (id, posição) empacotados em long: ordenação primitiva, sem comparador
+        long[] ordem = new long[n];
+        for (int i = 0; i < n; i++) {
+            ordem[i] = ((long) processos.get(i).getIdProcesso() << 32) | i;
+        }
+        Arrays.sort(ordem);
+
+        ids = new int[n];
+        retornos = new long[n];
+        esperas = new long[n];
+        respostas = new long[n];
+        for (int linha = 0; linha < n; linha++) {
+            Processo p = processos.get((int) ordem[linha]);
+            ids[linha] = p.getIdProcesso();
+            retornos[linha] = p.getTempoDeRetorno();
+            esperas[linha] = p.getTempoDeEspera();
+            respostas[linha] = p.getTempoDeResposta();
+        }
+        fireTableDataChanged();
+    }
+
+    int[] getIds() { return ids; }
+    long[] getRetornos() { return retornos; }
+    long[] getEsperas() { return esperas; }
+    long[] getRespostas() { return respostas; }
+
+    @Override
+    public int getRowCount() {
+        return ids.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUNAS.length;
+    }
+
+    @Override
+    public String getColumnName(int coluna) {
+        return COLUNAS[coluna];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int coluna) {
+        return coluna == 0 ? String.class : Long.class;
+    }
+
+    @Override
+    public Object getValueAt(int linha, int coluna) {
+        return switch (coluna) {
+            case 0 -> "P" + ids[linha];
+            case 1 -> retornos[linha];
+            case 2 -> esperas[linha];
+            default -> respostas[linha];
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package simulador.gui;
+
+import javax.swing.table.AbstractTableModel;
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import simulador.*;
+
+/**
+ * Modelo compacto da lista de processos do visualizador: uma linha por processo,
+ * com os dados guardados em vetores primitivos paralelos (id, prioridade, burst,
+ * tempo executado, cor) e um BitSet com os que estão em execução.
+ * A busca por id usa a própria linha quando os ids são 1..n na ordem das
+ * linhas (cargas geradas); senão, um vetor de linhas ordenado por id.
+ * A JTable só consulta as linhas visíveis. Acessado apenas pela EDT.
+ */
+class ModeloProcessos extends AbstractTableModel {
+
+    static final int COLUNA_PROCESSO = 0;
+    static final int COLUNA_PRIORIDADE = 1;
+    static final int COLUNA_PROGRESSO = 2;
+    private static final String[] COLUNAS = {"Processo", "Prioridade", "Progresso"};
+
+    private int[] ids = new int[0];
+    private int[] prioridades = new int[0];
+    private int[] bursts = new int[0];
+    private int[] executados = new int[0];
+    private int[] cores = new int[0];   // RGB
+    private final BitSet emExecucao = new BitSet();
+    private boolean idsDensos = true; // ids[i] == i + 1 para toda linha
+    private int[] linhasPorId = new int[0]; // só quando !idsDensos: linhas em ordem crescente de id
+
+    /**
+     * Função do método: Substitui o conteúdo do modelo pelos processos informados,
+     * gerando uma cor única, suave e fixa para cada um.
+     * Entrada: Lista de processos
+     * Saída: Nenhuma (notifica a tabela)
+     */
+    void carregar(List<Processo> processos) {
+        int n = processos.size();
+        ids = new int[n];
+        prioridades = new int[n];
+        bursts = new int[n];
+        executados = new int[n];
+        cores = new int[n];
+        emExecucao.clear();
+        idsDensos = true;
+
+        Random rand = new Random();
+        for (int i = 0; i < n; i++) {
+            Processo p = processos.get(i);
+            ids[i] = p.getIdProcesso();
+            prioridades[i] = p.getPrioridade();
+            bursts[i] = p.getTempoExecucao();
+            executados[i] = p.getTempoExecutado();
+            float hue = rand.nextFloat();                      // tonalidade aleatória
+            float saturation = 0.5f + rand.nextFloat() * 0.4f; // saturação média
+            float brightness = 0.8f + rand.nextFloat() * 0.2f; // brilho alto
+            cores[i] = Color.HSBtoRGB(hue, saturation, brightness);
+            if (ids[i] != i + 1) idsDensos = false;
+        }
+        linhasPorId = idsDensos ? new int[0] : ordenarPorId(ids);
+        fireTableDataChanged();
+    }
+
+    /**
+     * Função do método: Retorna a linha do processo com o ID informado.
+     * Entrada: ID do processo
+     * Saída: Índice da linha, ou -1 se o processo não estiver no modelo
+     */
+    int linhaDe(int id) {
+        if (idsDensos) return id >= 1 && id <= ids.length ? id - 1 : -1;
+        int esq = 0, dir = linhasPorId.length - 1;
+        while (esq <= dir) {
+            int meio = (esq + dir) >>> 1;
+            int idMeio = ids[linhasPorId[meio]];
+            if (idMeio < id) esq = meio + 1;
+            else if (idMeio > id) dir = meio - 1;
+            else return linhasPorId[meio];
+        }
+        return -1;
+    }
+
+    // Linhas ordenadas por id (pares id/linha empacotados em long, ordenação primitiva)
+    private static int[] ordenarPorId(int[] ids) {
+        long[] pares = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) pares[i] = ((long) ids[i] << 32) | i;
+        Arrays.sort(pares);
+        int[] linhas = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) linhas[i] = (int) pares[i];
+        return linhas;
+    }
+
+    void setEmExecucao(int linha, boolean executando) {
+        emExecucao.set(linha, executando);
+    }
+
+    void setExecutado(int linha, int executadoMs) {
+        executados[linha] = executadoMs;
+    }
+
+    /**
+     * Função do método: Avisa a tabela que uma linha mudou (só ela é redesenhada).
+     * Entrada: Índice da linha
+     * Saída: Nenhuma
+     */
+    void linhaAlterada(int linha) {
+        fireTableRowsUpdated(linha, linha);
+    }
+
+    boolean isEmExecucao(int linha) { return emExecucao.get(linha); }
+    int getId(int linha) { return ids[linha]; }
+    int getBurst(int linha) { return bursts[linha]; }
+    int getExecutado(int linha) { return executados[linha]; }
+    int getCor(int linha) { return cores[linha]; }
+
+    @Override
+    public int getRowCount() {
+        return ids.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUNAS.length;
+    }
+
+    @Override
+    public String getColumnName(int coluna) {
+        return COLUNAS[coluna];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int coluna) {
+        return coluna == COLUNA_PROCESSO ? String.class : Integer.class;
+    }
+
+    @Override
+    public Object getValueAt(int linha, int coluna) {
+        return switch (coluna) {
+            case COLUNA_PROCESSO -> "P" + ids[linha];
+            case COLUNA_PRIORIDADE -> prioridades[linha];
+            default -> executados[linha];
+        };
+    }
+}
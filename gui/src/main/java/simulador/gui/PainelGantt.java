@@ -0,0 +1,208 @@
+package simulador.gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+
+import simulador.*;
+
+/**
+ * Gantt por núcleo desenhado a partir da linha do tempo: cada fatia real com a
+ * cor do processo e cada overhead de troca em cinza escuro.
+ *
+ * Só a janela visível é percorrida (busca binária pelo primeiro intervalo) e,
+ * quando vários intervalos cabem em um mesmo pixel, desenha-se uma coluna de
+ * 1 px e salta-se direto para o pixel seguinte, de modo que o custo do desenho
+ * depende da largura do painel e não do número de fatias.
+ * Roda do mouse: zoom; arrastar: mover; duplo clique: mostrar tudo.
+ */
+class PainelGantt extends JPanel {
+
+    private static final int PAD_L = 70, PAD_R = 20, PAD_T = 20, PAD_B = 45;
+    private static final Color COR_OVERHEAD = new Color(60, 60, 60);
+    private static final double FATOR_ZOOM = 1.25;
+
+    private final LinhaDoTempo linha;
+    private final long fimTotalMs;
+    private double visInicioMs, visFimMs;
+    private int xArraste;
+
+    PainelGantt(LinhaDoTempo linha) {
+        this.linha = linha;
+        this.fimTotalMs = Math.max(1L, linha.getFimMs());
+        this.visInicioMs = 0;
+        this.visFimMs = fimTotalMs;
+        setBackground(Color.WHITE);
+        setToolTipText("");
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                double fator = Math.pow(FATOR_ZOOM, e.getPreciseWheelRotation());
+                double centro = instanteEm(e.getX());
+                ajustarJanela(centro - (centro - visInicioMs) * fator, centro + (visFimMs - centro) * fator);
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                xArraste = e.getX();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                double deslocamento = (xArraste - e.getX()) * msPorPixel();
+                xArraste = e.getX();
+                ajustarJanela(visInicioMs + deslocamento, visFimMs + deslocamento);
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) ajustarJanela(0, fimTotalMs);
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    /**
+     * Função do método: Ajusta a janela visível mantendo-a dentro da execução.
+     * Entrada: início e fim desejados (ms)
+     * Saída: Nenhuma (redesenha)
+     */
+    private void ajustarJanela(double inicio, double fim) {
+        double largura = Math.max(1.0, Math.min(fim - inicio, fimTotalMs));
+        inicio = Math.max(0, Math.min(inicio, fimTotalMs - largura));
+        visInicioMs = inicio;
+        visFimMs = inicio + largura;
+        repaint();
+    }
+
+    private int larguraUtil() {
+        return Math.max(1, getWidth() - PAD_L - PAD_R);
+    }
+
+    private double msPorPixel() {
+        return (visFimMs - visInicioMs) / larguraUtil();
+    }
+
+    private double instanteEm(int x) {
+        return visInicioMs + (x - PAD_L) * msPorPixel();
+    }
+
+    private int xDe(long instanteMs) {
+        return PAD_L + (int) Math.floor((instanteMs - visInicioMs) / msPorPixel());
+    }
+
+    private int alturaFaixa() {
+        int disponivel = getHeight() - PAD_T - PAD_B;
+        return Math.max(8, Math.min(40, disponivel / linha.getNumCpus() - 6));
+    }
+
+    private int yFaixa(int nucleo) {
+        return PAD_T + nucleo * (alturaFaixa() + 6);
+    }
+
+    private static Color corDe(int processo) {
+        if (processo == LinhaDoTempo.OVERHEAD) return COR_OVERHEAD;
+        float hue = (processo * 0.618034f) % 1f; // razão áurea espalha as tonalidades
+        return Color.getHSBColor(hue, 0.5f, 0.95f);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g;
+
+        if (linha.getTotalIntervalos() == 0) {
+            g2d.drawString("Sem dados", 20, 30);
+            return;
+        }
+
+        int altura = alturaFaixa();
+        int xMax = PAD_L + larguraUtil();
+        Shape recorteOriginal = g2d.getClip();
+        for (int n = 0; n < linha.getNumCpus(); n++) {
+            int y = yFaixa(n);
+            g2d.setClip(recorteOriginal);
+            g2d.setColor(Color.BLACK);
+            g2d.drawString("CPU " + n, 10, y + altura / 2 + 5);
+            g2d.clipRect(PAD_L, y, larguraUtil(), altura + 1);
+            desenharFaixa(g2d, n, y, altura, xMax);
+        }
+        g2d.setClip(recorteOriginal);
+
+        desenharEixo(g2d, yFaixa(linha.getNumCpus()));
+    }
+
+    /**
+     * Função do método: Desenha os intervalos visíveis de um núcleo, agregando os
+     * que ficam menores que um pixel.
+     * Entrada: contexto gráfico, núcleo, y e altura da faixa, x máximo
+     * Saída: Nenhuma
+     */
+    private void desenharFaixa(Graphics2D g2d, int nucleo, int y, int altura, int xMax) {
+        int tamanho = linha.tamanho(nucleo);
+        int i = linha.primeiroAPartirDe(nucleo, (long) Math.floor(visInicioMs));
+        while (i < tamanho && linha.inicioMs(nucleo, i) < visFimMs) {
+            int x0 = Math.max(PAD_L - 1, xDe(linha.inicioMs(nucleo, i)));
+            int x1 = Math.min(xMax + 1, xDe(linha.fimMs(nucleo, i)));
+            int processo = linha.processo(nucleo, i);
+            g2d.setColor(corDe(processo));
+
+            if (x1 - x0 >= 2) {
+                g2d.fillRect(x0, y, x1 - x0, altura);
+                g2d.setColor(Color.DARK_GRAY);
+                g2d.drawRect(x0, y, x1 - x0, altura);
+                if (processo != LinhaDoTempo.OVERHEAD && x1 - x0 > 30) {
+                    g2d.setColor(Color.BLACK);
+                    g2d.drawString("P" + processo, x0 + 4, y + altura / 2 + 5);
+                }
+                i++;
+            } else {
+                // nível de detalhe: uma coluna por pixel, pula os intervalos que cairiam nela
+                g2d.fillRect(x0, y, 1, altura);
+                long proximoPixelMs = (long) Math.ceil(instanteEm(x0 + 1));
+                i = Math.max(i + 1, linha.primeiroAPartirDe(nucleo, proximoPixelMs));
+            }
+        }
+    }
+
+    private void desenharEixo(Graphics2D g2d, int yEixo) {
+        g2d.setColor(Color.BLACK);
+        g2d.drawLine(PAD_L, yEixo, PAD_L + larguraUtil(), yEixo);
+        for (int i = 0; i <= 5; i++) {
+            double tempo = visInicioMs + i * (visFimMs - visInicioMs) / 5;
+            int x = PAD_L + (int) (i * larguraUtil() / 5.0);
+            g2d.drawLine(x, yEixo, x, yEixo + 5);
+            String rotulo = visFimMs - visInicioMs < 5000
+                    ? String.format("%.0fms", tempo) : String.format("%.1fs", tempo / 1000.0);
+            g2d.drawString(rotulo, x - 15, yEixo + 20);
+        }
+        g2d.setColor(COR_OVERHEAD);
+        g2d.fillRect(PAD_L, yEixo + 28, 10, 10);
+        g2d.setColor(Color.GRAY);
+        g2d.drawString("overhead    roda: zoom · arrastar: mover · duplo clique: tudo", PAD_L + 15, yEixo + 38);
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        int altura = alturaFaixa();
+        for (int n = 0; n < linha.getNumCpus(); n++) {
+            int y = yFaixa(n);
+            if (e.getY() < y || e.getY() > y + altura) continue;
+            long t = (long) instanteEm(e.getX());
+            int i = linha.primeiroAPartirDe(n, t);
+            if (i >= linha.tamanho(n) || linha.inicioMs(n, i) > t) return null;
+            long inicio = linha.inicioMs(n, i), fim = linha.fimMs(n, i);
+            if (linha.isOverhead(n, i)) {
+                return String.format("CPU %d · overhead · %d–%d ms", n, inicio, fim);
+            }
+            return String.format("CPU %d · P%d · %d–%d ms (%d ms, CPU %d ms)",
+                    n, linha.processo(n, i), inicio, fim, fim - inicio, linha.cpuMs(n, i));
+        }
+        return null;
+    }
+}
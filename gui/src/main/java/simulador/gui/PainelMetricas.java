@@ -0,0 +1,454 @@
+package simulador.gui;
+
+import javax.swing.*;
+import javax.swing.border.TitledBorder;
+import java.awt.*;
+import java.io.IOException;
+import java.util.*;
+import java.util.List;
+
+import simulador.*;
+
+public class PainelMetricas extends JPanel {
+    private JTabbedPane tabbedPane;
+    private JTextArea areaResumo;
+    private JTextArea areaParcial;
+    private JPanel painelGantt;
+    private JPanel painelGraficosDeBarra;
+    private JPanel painelComparativo;
+    private final ModeloMetricasProcessos modeloMetricasProcessos = new ModeloMetricasProcessos();
+
+    // Cenários recarregados do histórico ao abrir a interface
+    private static final int MAX_CENARIOS_RECARREGADOS = 8;
+
+    // Armazena resultados de múltiplas simulações para comparação
+    // AQUI ESTAVA O ERRO -> Corrigido para "ResultadoSimulacao"
+    private Map<String, ResultadoSimulacao> resultadosAcumulados = new LinkedHashMap<>();
+
+    // Histórico em disco (pode ser null): cada execução é acrescentada a ele
+    private final HistoricoResultados historico;
+
+    public PainelMetricas() {
+        this(null);
+    }
+
+    public PainelMetricas(HistoricoResultados historico) {
+        this.historico = historico;
+        setLayout(new BorderLayout());
+        setBorder(new TitledBorder("Métricas de Desempenho"));
+
+        tabbedPane = new JTabbedPane();
+
+        areaResumo = new JTextArea("Aguardando simulação...");
+        areaResumo.setEditable(false);
+        areaResumo.setFont(new Font("Monospaced", Font.PLAIN, 14));
+        tabbedPane.addTab("Resumo", new JScrollPane(areaResumo));
+
+        areaParcial = new JTextArea("Aguardando simulação...");
+        areaParcial.setEditable(false);
+        areaParcial.setFont(new Font("Monospaced", Font.PLAIN, 14));
+        tabbedPane.addTab("Ao Vivo", new JScrollPane(areaParcial));
+
+        painelGantt = new JPanel(new BorderLayout());
+        tabbedPane.addTab("Timeline/Gantt", painelGantt);
+
+        // Lista virtualizada: só as linhas visíveis são formatadas, qualquer que seja o número de processos
+        JTable tabelaMetricas = new JTable(modeloMetricasProcessos);
+        tabelaMetricas.setFillsViewportHeight(true);
+        tabbedPane.addTab("Processos", new JScrollPane(tabelaMetricas));
+
+        painelGraficosDeBarra = new JPanel();
+        painelGraficosDeBarra.setLayout(new BoxLayout(painelGraficosDeBarra, BoxLayout.Y_AXIS));
+        tabbedPane.addTab("Gráficos de Tempo", new JScrollPane(painelGraficosDeBarra));
+
+        painelComparativo = new JPanel(new BorderLayout());
+        tabbedPane.addTab("Comparativo de Cenários", painelComparativo);
+
+        add(tabbedPane, BorderLayout.CENTER);
+
+        if (historico != null) {
+            for (Map.Entry<String, Integer> e : historico.ultimasPorNome(MAX_CENARIOS_RECARREGADOS).entrySet()) {
+                resultadosAcumulados.put(e.getKey(), ResultadoSimulacao.de(historico, e.getValue()));
+            }
+        }
+        atualizarComparativo();
+    }
+
+    /**
+     * Função do método: Exibe as métricas de desempenho do cenário atual na interface.
+     * Entrada: avaliador, lista de processos, nome do cenário
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void exibirMetricas(Avaliador avaliador, List<Processo> processos, String cenario) {
+        exibirMetricas(avaliador, processos, cenario, null);
+    }
+
+    /**
+     * Função do método: Exibe as métricas do cenário atual e o Gantt das fatias gravadas.
+     * Entrada: avaliador, lista de processos, nome do cenário, linha do tempo (pode ser null)
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void exibirMetricas(Avaliador avaliador, List<Processo> processos, String cenario,
+                               LinhaDoTempo linhaDoTempo) {
+        // Armazena resultado do cenário atual (CORRIGIDO)
+        resultadosAcumulados.remove(cenario); // reinsere no fim, como o mais recente
+        resultadosAcumulados.put(cenario, new ResultadoSimulacao(avaliador));
+        if (historico != null) {
+            try {
+                historico.registrar(cenario, avaliador, processos);
+            } catch (IOException e) {
+                System.err.println("Falha ao gravar o histórico: " + e.getMessage());
+            }
+        }
+
+        // 1. Resumo
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== CENÁRIO: %s ===\n\n", cenario));
+        sb.append("--- MÉTRICAS GERAIS ---\n");
+        sb.append(String.format("Throughput.........: %.2f processos/s\n", avaliador.getThroughput()));
+        sb.append(String.format("Trocas de Contexto...: %d\n", avaliador.getTrocasDeContexto()));
+        sb.append(String.format("Utilização da CPU....: %.2f %%\n", avaliador.getUtilizacaoCPU()));
+        if (avaliador.getNumCpus() > 1) {
+            for (int n = 0; n < avaliador.getNumCpus(); n++) {
+                sb.append(String.format("  CPU %-2d.............: %.2f %%\n", n, avaliador.getUtilizacaoNucleo(n)));
+            }
+        }
+        sb.append(String.format("Tempo Ocioso.........: %d ms (%.2f %%)\n",
+                avaliador.getTempoOciosoTotalMs(), avaliador.getPercentualOcioso()));
+        sb.append(String.format("Utilização s/ Ócio...: %.2f %%\n", avaliador.getUtilizacaoSemOcio()));
+        sb.append(String.format("Throughput s/ Ócio...: %.2f processos/s\n\n", avaliador.getThroughputSemOcio()));
+
+        sb.append("--- MÉTRICAS DE TEMPO (MÉDIAS) ---\n");
+        double retornoMedioMs = avaliador.getTempoMedioDeRetorno();
+        sb.append(String.format("Tempo Médio de Retorno.: %-8.2f ms (%-6.2fs)\n",
+                retornoMedioMs, retornoMedioMs / 1000.0));
+        double esperaMediaMs = avaliador.getTempoMedioDeEspera();
+        sb.append(String.format("Tempo Médio de Espera..: %-8.2f ms (%-6.2fs)\n",
+                esperaMediaMs, esperaMediaMs / 1000.0));
+        double respostaMediaMs = avaliador.getTempoMedioDeResposta();
+        sb.append(String.format("Tempo Médio de Resposta: %-8.2f ms (%-6.2fs)\n",
+                respostaMediaMs, respostaMediaMs / 1000.0));
+
+        sb.append("\n--- DISTRIBUIÇÃO (ms) ---\n");
+        sb.append(String.format("%-9s | %8s | %8s | %8s | %8s | %8s | %8s\n",
+                "", "p50", "p90", "p99", "p99.9", "máx", "desvio"));
+        anexarDistribuicao(sb, "Retorno", avaliador.getDistribuicaoRetorno());
+        anexarDistribuicao(sb, "Espera", avaliador.getDistribuicaoEspera());
+        anexarDistribuicao(sb, "Resposta", avaliador.getDistribuicaoResposta());
+
+        sb.append(String.format("\nMétricas individuais de %d processos na aba \"Processos\".\n", processos.size()));
+        modeloMetricasProcessos.carregar(processos);
+
+        areaResumo.setText(sb.toString());
+        areaResumo.setCaretPosition(0);
+        tabbedPane.setSelectedIndex(0);
+
+        // 2. Gantt
+        painelGantt.removeAll();
+        if (linhaDoTempo != null) {
+            painelGantt.add(new PainelGantt(linhaDoTempo), BorderLayout.CENTER);
+        } else {
+            painelGantt.add(new JLabel("Linha do tempo não gravada", SwingConstants.CENTER), BorderLayout.CENTER);
+        }
+
+        // 3. Gráficos de Barra
+        painelGraficosDeBarra.removeAll();
+        int[] ids = modeloMetricasProcessos.getIds();
+        painelGraficosDeBarra.add(new GraficoBarrasPanel(ids, modeloMetricasProcessos.getRetornos(), "Gráfico - Tempo de Retorno"));
+        painelGraficosDeBarra.add(new GraficoBarrasPanel(ids, modeloMetricasProcessos.getEsperas(), "Gráfico - Tempo de Espera"));
+        painelGraficosDeBarra.add(new GraficoBarrasPanel(ids, modeloMetricasProcessos.getRespostas(), "Gráfico - Tempo de Resposta"));
+
+        // 4. Comparativo entre cenários
+        atualizarComparativo();
+
+        revalidate();
+        repaint();
+    }
+
+    private void atualizarComparativo() {
+        painelComparativo.removeAll();
+        if (resultadosAcumulados.size() > 1) {
+            painelComparativo.add(new ComparativoCenariosPanel(resultadosAcumulados), BorderLayout.CENTER);
+        } else {
+            JLabel lblAguardando = new JLabel("Execute múltiplos cenários para comparação", SwingConstants.CENTER);
+            painelComparativo.add(lblAguardando, BorderLayout.CENTER);
+        }
+    }
+
+    private static void anexarDistribuicao(StringBuilder sb, String nome, HistogramaLatencia h) {
+        sb.append(String.format("%-9s | %8d | %8d | %8d | %8d | %8d | %8.1f\n", nome,
+                h.getPercentil(50), h.getPercentil(90), h.getPercentil(99), h.getPercentil(99.9),
+                h.getMaximo(), h.getDesvioPadrao()));
+    }
+
+    /**
+     * Função do método: Seleciona a aba de métricas parciais (início de uma simulação).
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void mostrarParcial() {
+        areaParcial.setText("Aguardando primeiros eventos...");
+        tabbedPane.setSelectedIndex(1);
+    }
+
+    /**
+     * Função do método: Exibe as métricas parciais da simulação em andamento.
+     * Entrada: instantâneo das métricas online, nome do cenário
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void exibirParcial(MetricasOnline.Instantaneo m, String cenario) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== EM ANDAMENTO: %s ===\n\n", cenario));
+        sb.append(String.format("Instante.............: %.1f s\n", m.instanteMs() / 1000.0));
+        sb.append(String.format("Concluídos...........: %d / %d\n", m.concluidos(), m.totalProcessos()));
+        sb.append(String.format("Throughput...........: %.2f processos/s\n", m.throughput()));
+        sb.append(String.format("Ocupação das CPUs....: %.2f %%\n", m.ocupacaoCpu()));
+        sb.append(String.format("Trocas de Contexto...: %d\n\n", m.trocasContexto()));
+        sb.append(String.format("%-9s | %10s | %10s\n", "(ms)", "média", "p99"));
+        sb.append(String.format("%-9s | %10.1f | %10d\n", "Retorno", m.retornoMedioMs(), m.retornoP99Ms()));
+        sb.append(String.format("%-9s | %10.1f | %10d\n", "Espera", m.esperaMediaMs(), m.esperaP99Ms()));
+        sb.append(String.format("%-9s | %10.1f | %10d\n", "Resposta", m.respostaMediaMs(), m.respostaP99Ms()));
+        sb.append(m.convergiu() ? "\nMédia do tempo de retorno estabilizada (convergiu)\n" : "");
+        areaParcial.setText(sb.toString());
+    }
+
+    /**
+     * Função do método: Limpa as métricas exibidas na interface.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void limpar() {
+        areaResumo.setText("Aguardando simulação...");
+        modeloMetricasProcessos.carregar(List.of());
+        painelGantt.removeAll();
+        painelGraficosDeBarra.removeAll();
+        painelComparativo.removeAll();
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Função do método: Limpa os resultados acumulados e a interface (o histórico em disco é mantido).
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void limparHistorico() {
+        resultadosAcumulados.clear();
+        limpar();
+    }
+
+    // ========== CLASSES INTERNAS ==========
+
+    // AQUI TAMBÉM ESTAVA O ERRO -> Corrigido para "ResultadoSimulacao"
+    // Só os valores comparados, na ordem das métricas do comparativo (sem cópia dos processos)
+    private static class ResultadoSimulacao {
+        final double[] valores;
+
+        ResultadoSimulacao(double... valores) {
+            this.valores = valores;
+        }
+
+        ResultadoSimulacao(Avaliador av) {
+            this(av.getThroughput(), av.getTempoMedioDeRetorno(), av.getTempoMedioDeEspera(),
+                    av.getTempoMedioDeResposta(), av.getTrocasDeContexto());
+        }
+
+        static ResultadoSimulacao de(HistoricoResultados h, int execucao) {
+            return new ResultadoSimulacao(
+                    h.valor(HistoricoResultados.Metrica.THROUGHPUT, execucao),
+                    h.valor(HistoricoResultados.Metrica.RETORNO_MEDIO_MS, execucao),
+                    h.valor(HistoricoResultados.Metrica.ESPERA_MEDIA_MS, execucao),
+                    h.valor(HistoricoResultados.Metrica.RESPOSTA_MEDIA_MS, execucao),
+                    h.valor(HistoricoResultados.Metrica.TROCAS_CONTEXTO, execucao));
+        }
+    }
+
+    // Uma barra por processo até MAX_BARRAS_INDIVIDUAIS; acima disso, histograma com FAIXAS_HISTOGRAMA faixas
+    private static class GraficoBarrasPanel extends JPanel {
+        private static final int MAX_BARRAS_INDIVIDUAIS = 50;
+        private static final int FAIXAS_HISTOGRAMA = 40;
+        private static final Font FONTE_TITULO = new Font("SansSerif", Font.BOLD, 14);
+        private static final Font FONTE_ROTULO = new Font("SansSerif", Font.PLAIN, 10);
+        private static final Font FONTE_EIXO = new Font("SansSerif", Font.BOLD, 11);
+        private static final Color COR_BARRA = new Color(70, 130, 180);
+
+        private final String titulo;
+        private final boolean histograma;
+        private final String[] rotulos; // rótulo no eixo X de cada barra
+        private final long[] alturas;   // valor (ou contagem, no histograma) de cada barra
+        private final long maxAltura;
+
+        // Agrega os valores uma única vez; o desenho percorre só as barras
+        public GraficoBarrasPanel(int[] ids, long[] valores, String titulo) {
+            this.titulo = titulo;
+            this.histograma = valores.length > MAX_BARRAS_INDIVIDUAIS;
+            if (!histograma) {
+                rotulos = new String[valores.length];
+                alturas = valores.clone();
+                for (int i = 0; i < valores.length; i++) rotulos[i] = "P" + ids[i];
+            } else {
+                long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+                for (long v : valores) {
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+                long largura = Math.max(1L, (max - min) / FAIXAS_HISTOGRAMA + 1);
+                int faixas = (int) Math.min(FAIXAS_HISTOGRAMA, (max - min) / largura + 1);
+                alturas = new long[faixas];
+                rotulos = new String[faixas];
+                for (long v : valores) alturas[(int) ((v - min) / largura)]++;
+                for (int f = 0; f < faixas; f++) rotulos[f] = String.valueOf(min + f * largura);
+            }
+            long maior = 1L;
+            for (long a : alturas) maior = Math.max(maior, a);
+            this.maxAltura = maior;
+            setPreferredSize(new Dimension(500, 300));
+            setBackground(Color.WHITE);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            Graphics2D g2d = (Graphics2D) g;
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            if (alturas.length == 0) {
+                g2d.drawString(titulo + " (sem dados)", 10, 20);
+                return;
+            }
+
+            int padL = 60, padR = 40, padT = 50, padB = 60;
+            int larguraUtil = getWidth() - padL - padR;
+            int alturaUtil = getHeight() - padT - padB;
+            double larguraBarra = (double) larguraUtil / alturas.length;
+
+            g2d.setFont(FONTE_TITULO);
+            g2d.drawString(histograma ? titulo + " (distribuição)" : titulo, padL, 30);
+
+            g2d.setColor(Color.BLACK);
+            g2d.drawLine(padL, getHeight() - padB, getWidth() - padR, getHeight() - padB); // X
+            g2d.drawLine(padL, padT, padL, getHeight() - padB); // Y
+
+            g2d.setFont(FONTE_ROTULO);
+            int passoRotulo = histograma ? 5 : 1; // faixas estreitas: rótulo a cada 5
+            for (int i = 0; i < alturas.length; i++) {
+                int altBarra = (int) (((double) alturas[i] / maxAltura) * alturaUtil);
+                int x = (int) (padL + i * larguraBarra);
+                int y = getHeight() - padB - altBarra;
+
+                g2d.setColor(COR_BARRA);
+                g2d.fillRect(x + 2, y, (int) larguraBarra - 4, altBarra);
+                g2d.setColor(Color.BLACK);
+                g2d.drawRect(x + 2, y, (int) larguraBarra - 4, altBarra);
+
+                if (i % passoRotulo == 0) {
+                    g2d.drawString(rotulos[i], x + (int) larguraBarra / 2 - 5, getHeight() - padB + 15);
+                }
+                if (!histograma || alturas[i] > 0) {
+                    g2d.drawString(String.valueOf(alturas[i]), x + (int) larguraBarra / 2 - 10, y - 5);
+                }
+            }
+
+            g2d.setFont(FONTE_EIXO);
+            g2d.drawString(histograma ? "Tempo (ms)" : "Processos", getWidth() / 2 - 30, getHeight() - 10);
+            g2d.rotate(-Math.PI / 2);
+            g2d.drawString(histograma ? "Processos" : "Tempo (ms)", -getHeight() / 2 - 30, 20);
+        }
+    }
+
+    // AQUI TAMBÉM ESTAVA O ERRO -> Corrigido para "ResultadoSimulacao"
+    private static class ComparativoCenariosPanel extends JPanel {
+        private final Map<String, ResultadoSimulacao> resultados;
+
+        public ComparativoCenariosPanel(Map<String, ResultadoSimulacao> resultados) {
+            this.resultados = resultados;
+            setBackground(Color.WHITE);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            Graphics2D g2d = (Graphics2D) g;
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            if (resultados.size() < 2) {
+                g2d.drawString("Execute ao menos 2 cenários para comparação", 20, 30);
+                return;
+            }
+
+            String[] metricas = {"Throughput", "Retorno (ms)", "Espera (ms)", "Resposta (ms)", "Trocas Ctx"};
+            int numMetricas = metricas.length;
+            int numCenarios = resultados.size();
+
+            int padL = 80, padR = 40, padT = 60, padB = 80;
+            int larguraUtil = getWidth() - padL - padR;
+            int alturaUtil = getHeight() - padT - padB;
+
+            double larguraGrupo = (double)larguraUtil / numMetricas;
+            double larguraBarra = larguraGrupo / (numCenarios + 1);
+
+            g2d.setFont(new Font("SansSerif", Font.BOLD, 14));
+            g2d.drawString("Comparação de Métricas por Cenário", padL, 30);
+
+            g2d.setColor(Color.BLACK);
+            g2d.drawLine(padL, getHeight() - padB, getWidth() - padR, getHeight() - padB);
+            g2d.drawLine(padL, padT, padL, getHeight() - padB);
+
+            Color[] coresCenarios = {Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE, Color.MAGENTA};
+            List<String> nomeCenarios = new ArrayList<>(resultados.keySet());
+
+            for (int m = 0; m < numMetricas; m++) {
+                double maxValor = 0;
+
+                for (String cenario : nomeCenarios) {
+                    double valor = obterValorMetrica(resultados.get(cenario), m);
+                    if (valor > maxValor) maxValor = valor;
+                }
+                if (maxValor == 0) maxValor = 1;
+
+                for (int c = 0; c < numCenarios; c++) {
+                    String cenario = nomeCenarios.get(c);
+                    double valor = obterValorMetrica(resultados.get(cenario), m);
+
+                    int altBarra = (int)((valor / maxValor) * alturaUtil);
+                    int x = (int)(padL + m * larguraGrupo + c * larguraBarra);
+                    int y = getHeight() - padB - altBarra;
+
+                    g2d.setColor(coresCenarios[c % coresCenarios.length]);
+                    g2d.fillRect(x, y, (int)larguraBarra - 2, altBarra);
+                    g2d.setColor(Color.BLACK);
+                    g2d.drawRect(x, y, (int)larguraBarra - 2, altBarra);
+
+                    if (altBarra > 10) {
+                        g2d.setFont(new Font("SansSerif", Font.BOLD, 9));
+                        String valorStr = String.format("%.1f", valor);
+                        FontMetrics fm = g2d.getFontMetrics();
+                        int larguraTexto = fm.stringWidth(valorStr);
+                        int xTexto = x + ((int)larguraBarra - 2 - larguraTexto) / 2;
+                        int yTexto = y - 3;
+
+                        g2d.setColor(Color.BLACK);
+                        g2d.drawString(valorStr, xTexto, yTexto);
+                    }
+                }
+
+                int xLabel = (int)(padL + m * larguraGrupo + larguraGrupo/2 - 20);
+                g2d.setFont(new Font("SansSerif", Font.PLAIN, 10));
+                g2d.drawString(metricas[m], xLabel, getHeight() - padB + 20);
+            }
+
+            int yLegenda = getHeight() - 20;
+            for (int c = 0; c < nomeCenarios.size(); c++) {
+                g2d.setColor(coresCenarios[c % coresCenarios.length]);
+                g2d.fillRect(padL + c * 150, yLegenda, 15, 15);
+                g2d.setColor(Color.BLACK);
+                g2d.drawRect(padL + c * 150, yLegenda, 15, 15);
+                g2d.drawString(nomeCenarios.get(c), padL + c * 150 + 20, yLegenda + 12);
+            }
+        }
+
+        private double obterValorMetrica(ResultadoSimulacao r, int indice) {
+            return indice >= 0 && indice < r.valores.length ? r.valores[indice] : 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+package simulador.gui;
+
+import javax.swing.*;
+import javax.swing.border.TitledBorder;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableCellRenderer;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import simulador.*;
+
+public class PainelSimulacao extends JPanel {
+
+    private JTable tabelaProcessos;
+    private ModeloProcessos modeloProcessos;
+    private JList<String> listaLog;
+    private ModeloLog modeloLog;
+    private JSpinner spinnerRetencao;
+    private JCheckBox checkGravarLog;
+    private JLabel labelDescartadas;
+
+    // Atualização em lote: o timer lê o registro de eventos ~30 vezes por segundo,
+    // acrescenta o log de uma vez e só redesenha as linhas que mudaram
+    private static final int INTERVALO_ATUALIZACAO_MS = 33;
+    private static final int RETENCAO_PADRAO = 10_000;
+    private final Timer temporizador = new Timer(INTERVALO_ATUALIZACAO_MS, e -> aplicarLote());
+    private final RegistroEventos.Leitor leitor = this::consumirEvento;
+    private final List<String> loteLog = new ArrayList<>();
+    private final BitSet alteradas = new BitSet();   // linhas a redesenhar no próximo lote
+    private RegistroEventos registro;
+    private long proximaSequencia;
+
+    public PainelSimulacao() {
+        setLayout(new BorderLayout(10, 10));
+        setBorder(new TitledBorder("Visualizador de Escalonamento"));
+
+        // Lista virtualizada: a JTable só desenha as linhas visíveis do modelo compacto
+        modeloProcessos = new ModeloProcessos();
+        tabelaProcessos = new JTable(modeloProcessos);
+        tabelaProcessos.setFillsViewportHeight(true);
+        tabelaProcessos.setRowSelectionAllowed(false);
+        tabelaProcessos.getTableHeader().setReorderingAllowed(false);
+        tabelaProcessos.getColumnModel().getColumn(ModeloProcessos.COLUNA_PROCESSO).setPreferredWidth(80);
+        tabelaProcessos.getColumnModel().getColumn(ModeloProcessos.COLUNA_PRIORIDADE).setPreferredWidth(70);
+        tabelaProcessos.getColumnModel().getColumn(ModeloProcessos.COLUNA_PROGRESSO).setPreferredWidth(250);
+        tabelaProcessos.getColumnModel().getColumn(ModeloProcessos.COLUNA_PROCESSO)
+                .setCellRenderer(new RenderizadorNome());
+        tabelaProcessos.getColumnModel().getColumn(ModeloProcessos.COLUNA_PROGRESSO)
+                .setCellRenderer(new RenderizadorProgresso());
+        JScrollPane scrollProcessos = new JScrollPane(tabelaProcessos);
+        scrollProcessos.setPreferredSize(new Dimension(300, 200));
+
+        // Log virtualizado: a JList só desenha as linhas visíveis e o modelo guarda
+        // no máximo "retenção" linhas em um buffer circular
+        modeloLog = new ModeloLog(RETENCAO_PADRAO);
+        listaLog = new JList<>(modeloLog);
+        listaLog.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        listaLog.setPrototypeCellValue("[P000000] Linha de log de tamanho típico para medir a altura da célula");
+        listaLog.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        JScrollPane scrollLog = new JScrollPane(listaLog);
+
+        JPanel painelLog = new JPanel(new BorderLayout());
+        painelLog.setBorder(new TitledBorder("Log de Execução"));
+        painelLog.add(criarBarraLog(), BorderLayout.NORTH);
+        painelLog.add(scrollLog, BorderLayout.CENTER);
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, scrollProcessos, painelLog);
+        splitPane.setResizeWeight(0.4);
+
+        add(splitPane, BorderLayout.CENTER);
+    }
+
+    /**
+     * Função do método: Cria a barra com a retenção do log e a opção de gravar o log completo.
+     * Entrada: Nenhuma
+     * Saída: Painel com os controles do log
+     */
+    private JPanel criarBarraLog() {
+        JPanel barra = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+
+        barra.add(new JLabel("Retenção (linhas):"));
+        spinnerRetencao = new JSpinner(new SpinnerNumberModel(RETENCAO_PADRAO, 100, 10_000_000, 1000));
+        spinnerRetencao.addChangeListener(e -> {
+            modeloLog.setCapacidade((int) spinnerRetencao.getValue());
+            atualizarDescartadas();
+        });
+        barra.add(spinnerRetencao);
+
+        checkGravarLog = new JCheckBox("Gravar log completo...");
+        checkGravarLog.setToolTipText("Grava todas as linhas em arquivo, inclusive as descartadas da tela");
+        checkGravarLog.addActionListener(e -> alternarGravacaoLog());
+        barra.add(checkGravarLog);
+
+        labelDescartadas = new JLabel();
+        barra.add(labelDescartadas);
+        return barra;
+    }
+
+    /**
+     * Função do método: Liga ou desliga a gravação do log completo em arquivo.
+     * Entrada: Nenhuma (lê o estado do checkbox)
+     * Saída: Nenhuma
+     */
+    private void alternarGravacaoLog() {
+        if (!checkGravarLog.isSelected()) {
+            modeloLog.fecharArquivo();
+            checkGravarLog.setToolTipText("Grava todas as linhas em arquivo, inclusive as descartadas da tela");
+            return;
+        }
+        JFileChooser seletor = new JFileChooser();
+        seletor.setSelectedFile(new File("simulacao.log"));
+        if (seletor.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            checkGravarLog.setSelected(false);
+            return;
+        }
+        try {
+            modeloLog.gravarEm(seletor.getSelectedFile().toPath());
+            checkGravarLog.setToolTipText("Gravando em " + seletor.getSelectedFile());
+        } catch (IOException ex) {
+            checkGravarLog.setSelected(false);
+            JOptionPane.showMessageDialog(this, "Não foi possível abrir o arquivo: " + ex.getMessage(),
+                    "Erro", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Função do método: Prepara o painel para uma nova simulação com a lista de processos.
+     * Entrada: Lista de processos
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void prepararParaSimulacao(List<Processo> processos) {
+        alteradas.clear();
+        modeloProcessos.carregar(processos);
+        modeloLog.limpar();
+        atualizarDescartadas();
+    }
+
+    /**
+     * Função do método: Passa a acompanhar o registro de eventos de um escalonador,
+     * aplicando as mudanças em lotes a cada INTERVALO_ATUALIZACAO_MS.
+     * Entrada: Registro de eventos
+     * Saída: Nenhuma (inicia o timer)
+     */
+    public void acompanhar(RegistroEventos registro) {
+        this.registro = registro;
+        this.proximaSequencia = registro.getProximaSequencia();
+        temporizador.start();
+    }
+
+    /**
+     * Função do método: Aplica o último lote pendente e para o acompanhamento.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (para o timer)
+     */
+    public void encerrarAcompanhamento() {
+        aplicarLote();
+        temporizador.stop();
+        registro = null;
+        modeloLog.descarregar();
+    }
+
+    /**
+     * Função do método: Lê os eventos novos, acrescenta o log em bloco e atualiza
+     * somente os processos que mudaram desde o último lote.
+     * Entrada: Nenhuma
+     * Saída: Nenhuma (atualiza interface)
+     */
+    private void aplicarLote() {
+        if (registro == null) return;
+
+        long omitidos = registro.getPrimeiraDisponivel() - proximaSequencia;
+        if (omitidos > 0) {
+            loteLog.add("... " + omitidos + " eventos omitidos");
+        }
+        proximaSequencia = registro.lerDesde(proximaSequencia, leitor);
+
+        if (!loteLog.isEmpty()) {
+            modeloLog.adicionarTodas(loteLog);
+            loteLog.clear();
+            rolarParaFim();
+        }
+        for (int linha = alteradas.nextSetBit(0); linha >= 0; linha = alteradas.nextSetBit(linha + 1)) {
+            modeloProcessos.linhaAlterada(linha);
+        }
+        alteradas.clear();
+    }
+
+    // Recebe só cópias já validadas pelo registro (eventos sobrescritos durante a leitura não chegam aqui)
+    private void consumirEvento(RegistroEventos.Evento e) {
+        loteLog.add(e.formatar());
+        int linha = modeloProcessos.linhaDe(e.processo());
+        if (linha < 0) return;
+        switch (e.tipo()) {
+            case INICIO_FATIA -> modeloProcessos.setEmExecucao(linha, true);
+            case FIM_FATIA -> {
+                modeloProcessos.setEmExecucao(linha, false);
+                modeloProcessos.setExecutado(linha, e.valorB()); // total executado
+            }
+            default -> { }
+        }
+        alteradas.set(linha);
+    }
+
+    /**
+     * Função do método: Atualiza a interface do processo informado.
+     * Entrada: Processo
+     * Saída: Nenhuma (atualiza interface)
+     */
+    public void atualizarProcesso(Processo p) {
+        if (p == null) return;
+        int linha = modeloProcessos.linhaDe(p.getIdProcesso());
+        if (linha < 0) return;
+        modeloProcessos.setEmExecucao(linha, p.getEstado() == Processo.Estado.EXECUCAO);
+        modeloProcessos.setExecutado(linha, p.getTempoExecutado());
+        modeloProcessos.linhaAlterada(linha);
+    }
+
+    /**
+     * Função do método: Adiciona uma mensagem ao log de execução.
+     * Entrada: Mensagem (String)
+     * Saída: Nenhuma (atualiza log)
+     */
+    public void adicionarLog(String mensagem) {
+        modeloLog.adicionar(mensagem);
+        modeloLog.descarregar();
+        rolarParaFim();
+    }
+
+    private void rolarParaFim() {
+        int tamanho = modeloLog.getSize();
+        if (tamanho > 0) listaLog.ensureIndexIsVisible(tamanho - 1);
+        atualizarDescartadas();
+    }
+
+    private void atualizarDescartadas() {
+        long descartadas = modeloLog.getDescartadas();
+        labelDescartadas.setText(descartadas == 0 ? "" : descartadas + " linhas antigas descartadas");
+    }
+
+    /** Nome do processo em vermelho enquanto ele está em execução */
+    private class RenderizadorNome extends DefaultTableCellRenderer {
+        @Override
+        public Component getTableCellRendererComponent(JTable tabela, Object valor, boolean selecionado,
+                                                       boolean foco, int linha, int coluna) {
+            super.getTableCellRendererComponent(tabela, valor, false, false, linha, coluna);
+            setForeground(modeloProcessos.isEmExecucao(linha) ? Color.RED : Color.BLACK);
+            return this;
+        }
+    }
+
+    /** Uma única barra de progresso reaproveitada para desenhar todas as linhas visíveis */
+    private class RenderizadorProgresso extends JProgressBar implements TableCellRenderer {
+        RenderizadorProgresso() {
+            setStringPainted(true);
+            setBackground(new Color(240, 240, 240)); // cor de fundo neutra
+        }
+
+        @Override
+        public Component getTableCellRendererComponent(JTable tabela, Object valor, boolean selecionado,
+                                                       boolean foco, int linha, int coluna) {
+            int executado = modeloProcessos.getExecutado(linha);
+            int burst = modeloProcessos.getBurst(linha);
+            setMaximum(burst);
+            setValue(executado);
+            setString(executado + " / " + burst + " ms");
+            setForeground(new Color(modeloProcessos.getCor(linha)));
+            return this;
+        }
+    }
+}